@@ -165,7 +165,7 @@ const ProjectDetails = () => {
               Description
             </Typography>
             <Typography paragraph>
-              {project.description}
+              {project.description ?? project.summary}
             </Typography>
 
             <Divider sx={{ my: 3 }} />
@@ -118,7 +118,7 @@ export default function ProjectEdit() {
           <TextField
             fullWidth
             label="Description"
-            value={formData.description}
+            value={formData.description ?? ''}
             onChange={(e) => handleChange('description', e.target.value)}
             margin="normal"
             multiline
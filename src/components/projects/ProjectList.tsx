@@ -25,13 +25,15 @@ import { useNavigate } from 'react-router-dom';
 import { ProjectStatus } from '../../types/project';
 import { useAppDispatch, useAppSelector } from '../../types/store';
 import { 
-  fetchProjects, 
+  syncProjects, 
   updateProjectStatus, 
   setStatusFilter, 
   setSearchTerm,
   selectFilteredProjects 
 } from '../../store/projectsSlice';
 
+const SYNC_INTERVAL_MS = 30000;
+
 const getStatusColor = (status: ProjectStatus) => {
   switch (status) {
     case ProjectStatus.PENDING:
@@ -78,7 +80,10 @@ const ProjectList = () => {
   const searchTerm = useAppSelector((state) => state.projects.searchTerm);
 
   useEffect(() => {
-    dispatch(fetchProjects());
+    // The first sync loads the full list; later polls only fetch what changed
+    dispatch(syncProjects());
+    const interval = setInterval(() => dispatch(syncProjects()), SYNC_INTERVAL_MS);
+    return () => clearInterval(interval);
   }, [dispatch]);
 
   const handleStatusFilterChange = (event: any) => {
@@ -182,7 +187,7 @@ const ProjectList = () => {
               filteredProjects.map((project) => (
                 <TableRow key={project.id}>
                   <TableCell>{project.title}</TableCell>
-                  <TableCell>{project.description}</TableCell>
+                  <TableCell>{project.summary}</TableCell>
                   <TableCell>
                     <Chip
                       label={formatStatus(project.status)}
@@ -3,13 +3,19 @@ package com.example.research;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EntityScan("com.example.research.model")
 @EnableJpaRepositories("com.example.research.repository")
+@EnableScheduling
 public class ResearchSystemApplication {
     public static void main(String[] args) {
-        SpringApplication.run(ResearchSystemApplication.class, args);
+        SpringApplication application = new SpringApplication(ResearchSystemApplication.class);
+        // Records startup steps for StartupTimingReporter and /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 } 
\ No newline at end of file
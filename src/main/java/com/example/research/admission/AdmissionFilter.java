@@ -0,0 +1,238 @@
+package com.example.research.admission;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.research.util.TokenBucket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admission control for the API. Every request is charged its endpoint
+ * class's cost against a per-client token bucket (429 when empty), then has
+ * to get one of the class's concurrency slots (503 when none frees up within
+ * the short queue wait). Classes marked as DB heavy are also turned away with
+ * 503 while the connection pool already has waiters, rather than joining the
+ * queue for a connection. Rejections carry Retry-After.
+ *
+ * Clients are told apart by authenticated principal, else by remote address.
+ * The client header is only believed when the request comes from one of the
+ * configured trusted proxies, so a client can't pick a fresh bucket by
+ * changing a header.
+ */
+@Component
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionFilter.class);
+
+    private static final String DEFAULT_CLASS = "default";
+    private static final String OVERFLOW_BUCKET = "overflow";
+
+    private final AdmissionProperties properties;
+    private final DatabasePoolMonitor poolMonitor;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<ClassMatcher> classMatchers = new ArrayList<>();
+    private final Map<String, EndpointLimits> limitsByClass = new ConcurrentHashMap<>();
+    private final Map<String, ClientBucket> buckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdmissionFilter(AdmissionProperties properties, DatabasePoolMonitor poolMonitor,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.poolMonitor = poolMonitor;
+        this.meterRegistry = meterRegistry;
+
+        for (AdmissionProperties.EndpointClass endpointClass : properties.getEndpointClasses()) {
+            register(endpointClass.getName(), endpointClass.getCost(), endpointClass.getMaxConcurrent(),
+                    endpointClass.isShedWhenPoolSaturated());
+            for (String pattern : endpointClass.getPatterns()) {
+                classMatchers.add(ClassMatcher.parse(pattern, endpointClass.getName()));
+            }
+        }
+        register(DEFAULT_CLASS, properties.getDefaultCost(), properties.getDefaultMaxConcurrent(), false);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || "OPTIONS".equals(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointLimits limits = limitsByClass.get(classify(request));
+
+        ClientBucket bucket = bucketFor(clientKey(request));
+        bucket.lastUsedNanos = System.nanoTime();
+        if (!bucket.tokens.tryAcquire(limits.cost)) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(bucket.tokens.nanosUntil(limits.cost)) + 1);
+            reject(response, limits, HttpStatus.TOO_MANY_REQUESTS, "rate_limited", retryAfter);
+            return;
+        }
+
+        if (limits.shedWhenPoolSaturated && poolMonitor.isSaturated()) {
+            reject(response, limits, HttpStatus.SERVICE_UNAVAILABLE, "pool_saturated", properties.getRetryAfterSeconds());
+            return;
+        }
+
+        if (!acquireSlot(limits)) {
+            reject(response, limits, HttpStatus.SERVICE_UNAVAILABLE, "concurrency", properties.getRetryAfterSeconds());
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limits.slots.release();
+        }
+    }
+
+    private boolean acquireSlot(EndpointLimits limits) {
+        if (limits.slots.tryAcquire()) {
+            return true;
+        }
+        Duration wait = properties.getMaxQueueWait();
+        if (wait.isZero()) {
+            return false;
+        }
+        limits.queued.increment();
+        try {
+            return limits.slots.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(HttpServletResponse response, EndpointLimits limits, HttpStatus status, String reason,
+                        long retryAfterSeconds) throws IOException {
+        meterRegistry.counter("admission.rejected", "class", limits.name, "reason", reason).increment();
+        logger.debug("Rejected {} request: {}", limits.name, reason);
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain");
+        response.getWriter().write(status.getReasonPhrase());
+    }
+
+    private String classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (ClassMatcher matcher : classMatchers) {
+            if ((matcher.method == null || matcher.method.equals(request.getMethod()))
+                    && pathMatcher.match(matcher.pattern, path)) {
+                return matcher.className;
+            }
+        }
+        return DEFAULT_CLASS;
+    }
+
+    private ClientBucket bucketFor(String clientKey) {
+        ClientBucket bucket = buckets.get(clientKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        // Past the cap, new clients share one bucket until idle ones are evicted
+        String key = buckets.size() < properties.getMaxBuckets() ? clientKey : OVERFLOW_BUCKET;
+        return buckets.computeIfAbsent(key, k -> new ClientBucket(
+                new TokenBucket(properties.getBucketCapacity(), properties.getRefillPerSecond())));
+    }
+
+    String clientKey(HttpServletRequest request) {
+        if (request.getUserPrincipal() != null) {
+            return "user:" + request.getUserPrincipal().getName();
+        }
+        String remoteAddress = request.getRemoteAddr();
+        String header = properties.getClientHeader();
+        if (header != null && !header.isBlank() && properties.getTrustedProxies().contains(remoteAddress)) {
+            String forwarded = request.getHeader(header);
+            if (forwarded != null && !forwarded.isBlank()) {
+                // The proxy appends the address it saw, so only the last entry is its own
+                String[] hops = forwarded.split(",");
+                return "addr:" + hops[hops.length - 1].trim();
+            }
+        }
+        return "addr:" + remoteAddress;
+    }
+
+    private void register(String name, int cost, int maxConcurrent, boolean shedWhenPoolSaturated) {
+        Semaphore slots = new Semaphore(maxConcurrent);
+        Counter queued = meterRegistry.counter("admission.queued", "class", name);
+        limitsByClass.put(name, new EndpointLimits(name, cost, slots, shedWhenPoolSaturated, queued));
+        Gauge.builder("admission.in_flight", slots, s -> maxConcurrent - s.availablePermits())
+                .tag("class", name)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long cutoff = System.nanoTime() - properties.getIdleBucketTtl().toNanos();
+        buckets.values().removeIf(bucket -> bucket.lastUsedNanos < cutoff);
+    }
+
+    private static final class ClassMatcher {
+        private final String method;
+        private final String pattern;
+        private final String className;
+
+        private ClassMatcher(String method, String pattern, String className) {
+            this.method = method;
+            this.pattern = pattern;
+            this.className = className;
+        }
+
+        static ClassMatcher parse(String entry, String className) {
+            String[] parts = entry.trim().split("\\s+", 2);
+            return parts.length == 2
+                    ? new ClassMatcher(parts[0].toUpperCase(), parts[1], className)
+                    : new ClassMatcher(null, parts[0], className);
+        }
+    }
+
+    private static final class EndpointLimits {
+        private final String name;
+        private final int cost;
+        private final Semaphore slots;
+        private final boolean shedWhenPoolSaturated;
+        private final Counter queued;
+
+        private EndpointLimits(String name, int cost, Semaphore slots, boolean shedWhenPoolSaturated, Counter queued) {
+            this.name = name;
+            this.cost = cost;
+            this.slots = slots;
+            this.shedWhenPoolSaturated = shedWhenPoolSaturated;
+            this.queued = queued;
+        }
+    }
+
+    private static final class ClientBucket {
+        private final TokenBucket tokens;
+        private volatile long lastUsedNanos;
+
+        private ClientBucket(TokenBucket tokens) {
+            this.tokens = tokens;
+        }
+    }
+}
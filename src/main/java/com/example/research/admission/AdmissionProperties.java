@@ -0,0 +1,172 @@
+package com.example.research.admission;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    // Header a trusted proxy sets to the client it forwards for; ignored from anyone else
+    private String clientHeader = "X-Forwarded-For";
+    // Remote addresses of the proxies allowed to set the client header
+    private List<String> trustedProxies = new ArrayList<>();
+    // Distinct client buckets kept at most; clients beyond this share one bucket
+    private int maxBuckets = 100_000;
+    private double bucketCapacity = 60;
+    private double refillPerSecond = 10;
+    private Duration idleBucketTtl = Duration.ofMinutes(10);
+    // How long a request may wait for a concurrency slot before being shed
+    private Duration maxQueueWait = Duration.ofMillis(50);
+    private long retryAfterSeconds = 1;
+    private int defaultCost = 1;
+    private int defaultMaxConcurrent = 50;
+    private List<EndpointClass> endpointClasses = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getClientHeader() {
+        return clientHeader;
+    }
+
+    public void setClientHeader(String clientHeader) {
+        this.clientHeader = clientHeader;
+    }
+
+    public List<String> getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public double getBucketCapacity() {
+        return bucketCapacity;
+    }
+
+    public void setBucketCapacity(double bucketCapacity) {
+        this.bucketCapacity = bucketCapacity;
+    }
+
+    public double getRefillPerSecond() {
+        return refillPerSecond;
+    }
+
+    public void setRefillPerSecond(double refillPerSecond) {
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    public Duration getIdleBucketTtl() {
+        return idleBucketTtl;
+    }
+
+    public void setIdleBucketTtl(Duration idleBucketTtl) {
+        this.idleBucketTtl = idleBucketTtl;
+    }
+
+    public Duration getMaxQueueWait() {
+        return maxQueueWait;
+    }
+
+    public void setMaxQueueWait(Duration maxQueueWait) {
+        this.maxQueueWait = maxQueueWait;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getDefaultCost() {
+        return defaultCost;
+    }
+
+    public void setDefaultCost(int defaultCost) {
+        this.defaultCost = defaultCost;
+    }
+
+    public int getDefaultMaxConcurrent() {
+        return defaultMaxConcurrent;
+    }
+
+    public void setDefaultMaxConcurrent(int defaultMaxConcurrent) {
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+    }
+
+    public List<EndpointClass> getEndpointClasses() {
+        return endpointClasses;
+    }
+
+    public void setEndpointClasses(List<EndpointClass> endpointClasses) {
+        this.endpointClasses = endpointClasses;
+    }
+
+    public static class EndpointClass {
+        private String name;
+        // Entries like "GET /api/projects/**"; the method is optional
+        private List<String> patterns = new ArrayList<>();
+        private int cost = 1;
+        private int maxConcurrent = 10;
+        private boolean shedWhenPoolSaturated = false;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        public void setCost(int cost) {
+            this.cost = cost;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public boolean isShedWhenPoolSaturated() {
+            return shedWhenPoolSaturated;
+        }
+
+        public void setShedWhenPoolSaturated(boolean shedWhenPoolSaturated) {
+            this.shedWhenPoolSaturated = shedWhenPoolSaturated;
+        }
+    }
+}
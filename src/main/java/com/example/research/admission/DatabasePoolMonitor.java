@@ -0,0 +1,60 @@
+package com.example.research.admission;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.research.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Reports whether any connection pool has run dry, i.e. threads are already
+ * waiting for a connection. Looks through the shard routing datasource to the
+ * pool behind each shard.
+ */
+@Component
+public class DatabasePoolMonitor {
+
+    @Autowired
+    private DataSource dataSource;
+
+    public boolean isSaturated() {
+        for (HikariPoolMXBean pool : pools()) {
+            if (pool.getThreadsAwaitingConnection() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getThreadsAwaitingConnection() {
+        int waiting = 0;
+        for (HikariPoolMXBean pool : pools()) {
+            waiting += pool.getThreadsAwaitingConnection();
+        }
+        return waiting;
+    }
+
+    private List<HikariPoolMXBean> pools() {
+        List<DataSource> candidates = new ArrayList<>();
+        if (dataSource instanceof ShardRoutingDataSource routing) {
+            candidates.addAll(routing.getResolvedDataSources().values());
+        } else {
+            candidates.add(dataSource);
+        }
+
+        List<HikariPoolMXBean> pools = new ArrayList<>();
+        for (DataSource candidate : candidates) {
+            // The pool MXBean is null until the first connection is requested
+            if (candidate instanceof HikariDataSource hikari && hikari.getHikariPoolMXBean() != null) {
+                pools.add(hikari.getHikariPoolMXBean());
+            }
+        }
+        return pools;
+    }
+}
@@ -4,74 +4,89 @@ import java.time.LocalDate;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.research.model.Project;
 import com.example.research.model.ProjectStatus;
 import com.example.research.model.User;
-import com.example.research.repository.ProjectRepository;
 import com.example.research.repository.UserRepository;
+import com.example.research.sharding.ShardedProjectStore;
 
 @Component
+@ConditionalOnProperty(name = "app.sample-data.enabled", havingValue = "true", matchIfMissing = true)
 public class DataInitializer implements CommandLineRunner {
 
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private ProjectRepository projectRepository;
+    private ShardedProjectStore projectStore;
 
+    // Not transactional: each store call has to open its own connection so it
+    // reaches the right shard
     @Override
-    @Transactional
     public void run(String... args) {
         // Create default user if it doesn't exist
         User defaultUser = null;
         if (userRepository.count() == 0) {
             defaultUser = new User();
-            defaultUser.setUsername("default_user");
-            defaultUser.setEmail("default@example.com");
-            defaultUser.setPassword("default123"); // In a real app, this should be encrypted
-            defaultUser.setFirstName("Default");
-            defaultUser.setLastName("User");
-            defaultUser.setDepartment("Research");
-            defaultUser.setInstitution("Default Institution");
-            defaultUser = userRepository.save(defaultUser);
+            defaultUser.setUsername("researcher1");
+            defaultUser.setEmail("researcher1@university.edu");
+            defaultUser.setPassword("$2a$10$secure.hash.placeholder");
+            defaultUser.setFirstName("John");
+            defaultUser.setLastName("Smith");
+            defaultUser.setTitle("Associate Professor");
+            defaultUser.setDepartment("Computer Science");
+            defaultUser.setInstitution("University Research Center");
+            defaultUser = projectStore.saveUser(defaultUser);
         } else {
             defaultUser = userRepository.findById(1L).orElse(null);
         }
 
         // Create sample projects if none exist
-        if (projectRepository.count() == 0 && defaultUser != null) {
-            // Project 1
+        if (projectStore.count() == 0 && defaultUser != null) {
+            LocalDate today = LocalDate.now();
+
+            // Project 1: Active project approaching deadline
             Project project1 = new Project();
-            project1.setTitle("AI Research Project");
-            project1.setDescription("Research on advanced machine learning algorithms");
+            project1.setTitle("Research Data Analysis");
+            project1.setDescription("Analysis of experimental results from Q1");
             project1.setStatus(ProjectStatus.IN_PROGRESS);
-            project1.setStartDate(LocalDate.now());
-            project1.setEndDate(LocalDate.now().plusMonths(6));
+            project1.setStartDate(today.minusDays(15));
+            project1.setEndDate(today.plusDays(15));
+            project1.setDeadline(today.plusDays(5));
             project1.setOwner(defaultUser);
-            projectRepository.save(project1);
+            project1.updateDeadlineStatus();
+            project1.addStatusHistory(ProjectStatus.PENDING, ProjectStatus.IN_PROGRESS, defaultUser);
+            projectStore.save(project1);
 
-            // Project 2
+            // Project 2: Completed project that was overdue
             Project project2 = new Project();
-            project2.setTitle("Climate Change Study");
-            project2.setDescription("Analysis of global climate patterns");
-            project2.setStatus(ProjectStatus.PENDING);
-            project2.setStartDate(LocalDate.now().plusMonths(1));
-            project2.setEndDate(LocalDate.now().plusMonths(8));
+            project2.setTitle("Literature Review");
+            project2.setDescription("Systematic review of recent publications");
+            project2.setStatus(ProjectStatus.COMPLETED);
+            project2.setStartDate(today.minusDays(30));
+            project2.setEndDate(today.minusDays(1));
+            project2.setDeadline(today.minusDays(2));
             project2.setOwner(defaultUser);
-            projectRepository.save(project2);
+            project2.updateDeadlineStatus();
+            project2.setReminderSent(true);
+            project2.addStatusHistory(ProjectStatus.PENDING, ProjectStatus.IN_PROGRESS, defaultUser);
+            project2.addStatusHistory(ProjectStatus.IN_PROGRESS, ProjectStatus.COMPLETED, defaultUser);
+            projectStore.save(project2);
 
-            // Project 3
+            // Project 3: New project on track, no status changes yet
             Project project3 = new Project();
-            project3.setTitle("Medical Research");
-            project3.setDescription("Study on new treatment methods");
-            project3.setStatus(ProjectStatus.COMPLETED);
-            project3.setStartDate(LocalDate.now().minusMonths(6));
-            project3.setEndDate(LocalDate.now().minusMonths(1));
+            project3.setTitle("Grant Proposal");
+            project3.setDescription("Preparation of research grant application");
+            project3.setStatus(ProjectStatus.PENDING);
+            project3.setStartDate(today.plusDays(1));
+            project3.setEndDate(today.plusDays(60));
+            project3.setDeadline(today.plusDays(45));
             project3.setOwner(defaultUser);
-            projectRepository.save(project3);
+            project3.updateDeadlineStatus();
+            projectStore.save(project3);
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example.research.config;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ReflectionUtils;
+
+import jakarta.servlet.Filter;
+
+/**
+ * With spring.main.lazy-initialization on (fast-start profile), keeps the
+ * beans that serve requests eager so the first request doesn't pay for them,
+ * along with anything that schedules work, which would otherwise never start.
+ * Everything else is created on first use.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter requestPathBeansAreEager() {
+        return (beanName, beanDefinition, beanType) -> AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                || Filter.class.isAssignableFrom(beanType)
+                || SchedulingConfigurer.class.isAssignableFrom(beanType)
+                || hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType,
+                method -> found.set(true),
+                method -> !found.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        return found.get();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.research.config;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+/**
+ * Logs how long startup took, measured from JVM launch: when the application
+ * became ready, which beans were slowest to create, and the time to the
+ * first served request checked against app.startup.first-request-target.
+ */
+@Component
+public class StartupTimingReporter {
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimingReporter.class);
+
+    private static final int SLOWEST_BEANS = 10;
+
+    @Value("${app.startup.first-request-target:PT10S}")
+    private Duration firstRequestTarget;
+
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        logger.info("Startup: ready {} ms after JVM start (context startup {} ms)",
+                millisSinceJvmStart(), event.getTimeTaken().toMillis());
+
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup buffering) {
+            buffering.getBufferedTimeline().getEvents().stream()
+                    .filter(step -> "spring.beans.instantiate".equals(step.getStartupStep().getName()))
+                    .sorted(Comparator.comparing(step -> step.getDuration(), Comparator.reverseOrder()))
+                    .limit(SLOWEST_BEANS)
+                    .forEach(step -> logger.info("Startup: {} ms creating {}",
+                            step.getDuration().toMillis(), beanName(step.getStartupStep())));
+        }
+    }
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (!firstRequestSeen.compareAndSet(false, true)) {
+            return;
+        }
+        long elapsed = millisSinceJvmStart();
+        if (elapsed > firstRequestTarget.toMillis()) {
+            logger.warn("Startup: first request served {} ms after JVM start, over the {} ms target",
+                    elapsed, firstRequestTarget.toMillis());
+        } else {
+            logger.info("Startup: first request served {} ms after JVM start (target {} ms)",
+                    elapsed, firstRequestTarget.toMillis());
+        }
+    }
+
+    private static long millisSinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return step.getName();
+    }
+}
@@ -18,9 +18,11 @@ import org.springframework.web.bind.annotation.RestController;
 import com.example.research.dto.DashboardStatsDTO;
 import com.example.research.model.Project;
 import com.example.research.model.ProjectStatus;
-import com.example.research.repository.ProjectRepository;
+import com.example.research.model.ReviewStatus;
 import com.example.research.repository.UserRepository;
 import com.example.research.service.DashboardService;
+import com.example.research.service.ReviewService;
+import com.example.research.sharding.ShardedProjectStore;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -32,11 +34,14 @@ public class DashboardController {
     private UserRepository userRepository;
 
     @Autowired
-    private ProjectRepository projectRepository;
+    private ShardedProjectStore projectStore;
 
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private ReviewService reviewService;
+
     @GetMapping
     public DashboardStatsDTO getDashboardStats() {
         return dashboardService.getDashboardStats();
@@ -51,7 +56,7 @@ public class DashboardController {
                     summary.put("user", user);
                     
                     // Get all projects for user
-                    List<Project> userProjects = projectRepository.findByOwner(user);
+                    List<Project> userProjects = projectStore.findByOwner(user);
                     
                     // Count projects by status
                     Map<ProjectStatus, Long> userCountsByStatus = userProjects.stream()
@@ -64,7 +69,7 @@ public class DashboardController {
                     
                     summary.put("projectCount", activeProjectCount);
                     summary.put("totalProjects", userProjects.size());
-                    summary.put("reviewCount", 0); // To be implemented
+                    summary.put("reviewCount", reviewService.countFor(userId, ReviewStatus.PENDING));
                     
                     logger.info("User dashboard summary: {}", summary);
                     return ResponseEntity.ok(summary);
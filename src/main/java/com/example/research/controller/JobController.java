@@ -0,0 +1,43 @@
+package com.example.research.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.research.model.JobLease;
+import com.example.research.model.JobRun;
+import com.example.research.repository.JobLeaseRepository;
+import com.example.research.repository.JobRunRepository;
+
+@RestController
+@RequestMapping("/api/jobs")
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+public class JobController {
+    private static final Logger logger = LoggerFactory.getLogger(JobController.class);
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @GetMapping
+    public List<JobLease> getJobs() {
+        logger.info("Fetching scheduled job leases");
+        return jobLeaseRepository.findAll();
+    }
+
+    @GetMapping("/{name}/runs")
+    public ResponseEntity<List<JobRun>> getJobRuns(@PathVariable String name) {
+        logger.info("Fetching run history for job: {}", name);
+        return ResponseEntity.ok(jobRunRepository.findTop20ByJobNameOrderByStartedAtDesc(name));
+    }
+}
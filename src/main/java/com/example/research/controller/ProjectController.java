@@ -16,14 +16,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.research.dto.ProjectChangesDTO;
 import com.example.research.model.Project;
 import com.example.research.model.ProjectStatus;
 import com.example.research.model.StatusHistory;
-import com.example.research.repository.ProjectRepository;
-import com.example.research.repository.StatusHistoryRepository;
+import com.example.research.reminder.DeadlineReminderEngine;
+import com.example.research.repository.ReviewRepository;
 import com.example.research.repository.UserRepository;
+import com.example.research.service.ProjectChangeService;
+import com.example.research.service.ReviewService;
+import com.example.research.sharding.ShardedProjectStore;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -32,24 +37,50 @@ public class ProjectController {
     private static final Logger logger = LoggerFactory.getLogger(ProjectController.class);
 
     @Autowired
-    private ProjectRepository projectRepository;
+    private ShardedProjectStore projectStore;
 
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private StatusHistoryRepository statusHistoryRepository;
+    private DeadlineReminderEngine reminderEngine;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ProjectChangeService changeService;
 
     @GetMapping
     public List<Project> getAllProjects() {
         logger.info("Fetching all projects");
-        return projectRepository.findAll();
+        return projectStore.findAll();
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<?> getProjectChanges(@RequestParam(required = false) String since) {
+        if (since == null || since.isBlank()) {
+            logger.info("Fetching full project sync");
+            return ResponseEntity.ok(changeService.snapshot());
+        }
+        ProjectChangesDTO changes;
+        try {
+            changes = changeService.changesSince(since);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid sync token");
+        }
+        logger.info("Fetched {} changed and {} deleted projects since {}",
+                changes.getProjects().size(), changes.getDeleted().size(), since);
+        return ResponseEntity.ok(changes);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Project> getProjectById(@PathVariable Long id) {
         logger.info("Fetching project with id: {}", id);
-        return projectRepository.findById(id)
+        return projectStore.findWithDescription(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -59,26 +90,33 @@ public class ProjectController {
         logger.info("Creating new project");
         project.setStatus(ProjectStatus.PENDING);
         project.updateDeadlineStatus(); // Update deadline status before saving
-        Project savedProject = projectRepository.save(project);
+        Project savedProject = projectStore.save(project, saved -> changeService.recordUpdate(saved.getId()));
         // Add initial status history with the project owner as the changer
         savedProject.addStatusHistory(null, ProjectStatus.PENDING, project.getOwner());
+        reminderEngine.schedule(savedProject);
         return ResponseEntity.ok(savedProject);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateProject(@PathVariable Long id, @RequestBody Project updatedProject) {
         logger.info("Updating project with id: {}", id);
-        return projectRepository.findById(id)
+        return projectStore.findById(id)
                 .map(existingProject -> {
                     // If status is changing, record it in history
                     if (existingProject.getStatus() != updatedProject.getStatus()) {
                         logger.info("Status changing from {} to {}", existingProject.getStatus(), updatedProject.getStatus());
                         existingProject.addStatusHistory(existingProject.getStatus(), updatedProject.getStatus(), existingProject.getOwner());
                     }
-                    
+
+                    boolean titleChanged = updatedProject.getTitle() != null
+                            && !updatedProject.getTitle().equals(existingProject.getTitle());
+
                     // Update fields
                     existingProject.setTitle(updatedProject.getTitle());
-                    existingProject.setDescription(updatedProject.getDescription());
+                    // Listings don't carry the description, so only replace it when one was sent
+                    if (updatedProject.isDescriptionChanged()) {
+                        existingProject.setDescription(updatedProject.getDescription());
+                    }
                     existingProject.setStatus(updatedProject.getStatus());
                     existingProject.setStartDate(updatedProject.getStartDate());
                     existingProject.setEndDate(updatedProject.getEndDate());
@@ -87,7 +125,13 @@ public class ProjectController {
                     // Update deadline status
                     existingProject.updateDeadlineStatus();
                     
-                    Project saved = projectRepository.save(existingProject);
+                    Project saved = projectStore.save(existingProject, project -> changeService.recordUpdate(id));
+                    // Reviews keep a copy of the title for their listings. They live on the
+                    // default shard, outside the project's transaction, so only copy it once saved
+                    if (titleChanged) {
+                        reviewRepository.updateProjectTitle(id, saved.getTitle());
+                    }
+                    reminderEngine.schedule(saved);
                     logger.info("Project updated successfully");
                     return ResponseEntity.ok(saved);
                 })
@@ -97,9 +141,11 @@ public class ProjectController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteProject(@PathVariable Long id) {
         logger.info("Deleting project with id: {}", id);
-        return projectRepository.findById(id)
+        return projectStore.findById(id)
                 .map(project -> {
-                    projectRepository.delete(project);
+                    projectStore.delete(project, deleted -> changeService.recordDelete(id));
+                    reminderEngine.unschedule(id);
+                    reviewService.deleteByProject(id);
                     return ResponseEntity.ok().build();
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -110,7 +156,7 @@ public class ProjectController {
         logger.info("Fetching projects for user: {}", userId);
         return userRepository.findById(userId)
                 .map(user -> {
-                    List<Project> projects = projectRepository.findByOwner(user);
+                    List<Project> projects = projectStore.findByOwner(user);
                     logger.info("Found {} projects for user", projects.size());
                     return ResponseEntity.ok(projects);
                 })
@@ -120,7 +166,7 @@ public class ProjectController {
     @GetMapping("/status/{status}")
     public ResponseEntity<List<Project>> getProjectsByStatus(@PathVariable ProjectStatus status) {
         logger.info("Fetching projects with status: {}", status);
-        List<Project> projects = projectRepository.findByStatus(status);
+        List<Project> projects = projectStore.findByStatus(status);
         logger.info("Found {} projects with status {}", projects.size(), status);
         return ResponseEntity.ok(projects);
     }
@@ -128,7 +174,7 @@ public class ProjectController {
     @GetMapping("/{id}/status-history")
     public ResponseEntity<List<StatusHistory>> getProjectStatusHistory(@PathVariable Long id) {
         logger.info("Fetching status history for project with id: {}", id);
-        return projectRepository.findById(id)
+        return projectStore.findById(id)
                 .map(project -> ResponseEntity.ok(project.getStatusHistory()))
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -139,7 +185,7 @@ public class ProjectController {
         LocalDate today = LocalDate.now();
         LocalDate sevenDaysFromNow = today.plusDays(7);
         
-        List<Project> upcomingProjects = projectRepository.findAll().stream()
+        List<Project> upcomingProjects = projectStore.findAll().stream()
             .filter(project -> {
                 LocalDate deadline = project.getDeadline();
                 return deadline != null 
@@ -157,7 +203,7 @@ public class ProjectController {
         logger.info("Fetching overdue projects");
         LocalDate today = LocalDate.now();
         
-        List<Project> overdueProjects = projectRepository.findAll().stream()
+        List<Project> overdueProjects = projectStore.findAll().stream()
             .filter(project -> {
                 LocalDate deadline = project.getDeadline();
                 return deadline != null && deadline.isBefore(today);
@@ -0,0 +1,148 @@
+package com.example.research.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.research.dto.ReviewDTO;
+import com.example.research.model.Project;
+import com.example.research.model.Review;
+import com.example.research.model.ReviewStatus;
+import com.example.research.repository.ReviewRepository;
+import com.example.research.repository.UserRepository;
+import com.example.research.service.ReviewService;
+import com.example.research.sharding.ShardedProjectStore;
+
+@RestController
+@RequestMapping("/api/reviews")
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+public class ReviewController {
+    private static final Logger logger = LoggerFactory.getLogger(ReviewController.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShardedProjectStore projectStore;
+
+    @GetMapping
+    public List<ReviewDTO> getReviews(@RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("Fetching reviews page {}", page);
+        return toListDTOs(reviewRepository.findAllBy(pageOf(page, size)));
+    }
+
+    @GetMapping("/project/{projectId}")
+    public List<ReviewDTO> getReviewsByProject(@PathVariable Long projectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("Fetching reviews for project {} page {}", projectId, page);
+        return toListDTOs(reviewRepository.findByProjectId(projectId, pageOf(page, size)));
+    }
+
+    @GetMapping("/reviewer/{userId}")
+    public List<ReviewDTO> getReviewsByReviewer(@PathVariable Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("Fetching reviews for reviewer {} page {}", userId, page);
+        return toListDTOs(reviewRepository.findByReviewerId(userId, pageOf(page, size)));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ReviewDTO> getReviewById(@PathVariable Long id) {
+        logger.info("Fetching review with id: {}", id);
+        return reviewRepository.findWithReviewerById(id)
+                .map(review -> {
+                    ReviewDTO dto = toDTO(review);
+                    // Only the detail view needs the project itself
+                    projectStore.findWithDescription(review.getProjectId())
+                            .map(Project::getDescription)
+                            .ifPresent(dto::setProjectDescription);
+                    return ResponseEntity.ok(dto);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createReview(@RequestBody Map<String, Long> request) {
+        Long projectId = request.get("projectId");
+        Long reviewerId = request.get("reviewerId");
+        logger.info("Assigning project {} to reviewer {}", projectId, reviewerId);
+        if (projectId == null || reviewerId == null) {
+            return ResponseEntity.badRequest().body("projectId and reviewerId are required");
+        }
+        return projectStore.findById(projectId)
+                .flatMap(project -> userRepository.findById(reviewerId)
+                        .map(reviewer -> reviewService.create(project, reviewer)))
+                .<ResponseEntity<?>>map(review -> ResponseEntity.ok(toDTO(review)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ReviewDTO> updateReview(@PathVariable Long id, @RequestBody ReviewDTO update) {
+        logger.info("Updating review with id: {}", id);
+        return reviewService.update(id, update.getRating(), update.getComments(), update.getStatus())
+                .map(review -> ResponseEntity.ok(toDTO(review)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteReview(@PathVariable Long id) {
+        logger.info("Deleting review with id: {}", id);
+        return reviewService.delete(id)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private Pageable pageOf(int page, int size) {
+        int boundedSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return PageRequest.of(Math.max(page, 0), boundedSize, Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    private List<ReviewDTO> toListDTOs(Slice<Review> reviews) {
+        return reviews.getContent().stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    private ReviewDTO toDTO(Review review) {
+        ReviewDTO dto = new ReviewDTO();
+        dto.setId(review.getId());
+        dto.setProjectId(review.getProjectId());
+        dto.setProjectTitle(review.getProjectTitle());
+        dto.setReviewerId(review.getReviewer().getId());
+        dto.setReviewer(review.getReviewer().getUsername());
+        dto.setStatus(review.getStatus());
+        dto.setRating(review.getRating());
+        dto.setComments(review.getComments());
+        dto.setSubmittedDate(review.getSubmittedAt() != null ? review.getSubmittedAt() : review.getCreatedAt());
+        return dto;
+    }
+}
@@ -6,6 +6,7 @@ public class DashboardStatsDTO {
     private long totalUsers;
     private long activeProjects;
     private long pendingReviews;
+    private long completedReviews;
     private List<StatusChangeDTO> recentStatusChanges;
     private List<UpcomingDeadlineDTO> upcomingDeadlines;
 
@@ -33,6 +34,14 @@ public class DashboardStatsDTO {
         this.pendingReviews = pendingReviews;
     }
 
+    public long getCompletedReviews() {
+        return completedReviews;
+    }
+
+    public void setCompletedReviews(long completedReviews) {
+        this.completedReviews = completedReviews;
+    }
+
     public List<StatusChangeDTO> getRecentStatusChanges() {
         return recentStatusChanges;
     }
@@ -0,0 +1,53 @@
+package com.example.research.dto;
+
+import java.util.List;
+
+import com.example.research.model.Project;
+
+public class ProjectChangesDTO {
+    private List<Project> projects;
+    private List<Long> deleted;
+    private String token;
+    private boolean hasMore;
+    private boolean fullSync; // projects is the whole list, not a delta
+
+    public List<Project> getProjects() {
+        return projects;
+    }
+
+    public void setProjects(List<Project> projects) {
+        this.projects = projects;
+    }
+
+    public List<Long> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<Long> deleted) {
+        this.deleted = deleted;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public boolean isFullSync() {
+        return fullSync;
+    }
+
+    public void setFullSync(boolean fullSync) {
+        this.fullSync = fullSync;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.research.jobs;
+
+public final class ChunkResult {
+    private final String nextCheckpoint;
+    private final int itemsProcessed;
+    private final boolean done;
+
+    private ChunkResult(String nextCheckpoint, int itemsProcessed, boolean done) {
+        this.nextCheckpoint = nextCheckpoint;
+        this.itemsProcessed = itemsProcessed;
+        this.done = done;
+    }
+
+    public static ChunkResult more(String nextCheckpoint, int itemsProcessed) {
+        return new ChunkResult(nextCheckpoint, itemsProcessed, false);
+    }
+
+    public static ChunkResult done(int itemsProcessed) {
+        return new ChunkResult(null, itemsProcessed, true);
+    }
+
+    /**
+     * Ends the run, keeping the checkpoint so the next run carries on from it
+     * instead of starting over.
+     */
+    public static ChunkResult doneAt(String nextCheckpoint, int itemsProcessed) {
+        return new ChunkResult(nextCheckpoint, itemsProcessed, true);
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public String getNextCheckpoint() {
+        return nextCheckpoint;
+    }
+
+    public int getItemsProcessed() {
+        return itemsProcessed;
+    }
+}
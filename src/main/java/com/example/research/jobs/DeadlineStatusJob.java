@@ -0,0 +1,93 @@
+package com.example.research.jobs;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.Project;
+import com.example.research.repository.ProjectRepository;
+import com.example.research.service.ProjectChangeService;
+import com.example.research.sharding.ShardTemplate;
+
+/**
+ * Recomputes deadline_status as days pass, since a project's status only
+ * changes on its own when someone edits it. Walks each shard in id order;
+ * the checkpoint is "shard:lastId".
+ */
+@Component
+public class DeadlineStatusJob implements ScheduledJob {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ShardTemplate shardTemplate;
+
+    @Autowired
+    private ProjectChangeService changeService;
+
+    @Value("${jobs.deadline-status.cron:0 5 0 * * *}")
+    private String cron;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public DeadlineStatusJob(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String getName() {
+        return "deadline-status";
+    }
+
+    @Override
+    public String getCron() {
+        return cron;
+    }
+
+    @Override
+    public ChunkResult processChunk(String checkpoint) {
+        int shard = 0;
+        long lastId = 0L;
+        if (checkpoint != null) {
+            String[] parts = checkpoint.split(":");
+            shard = Integer.parseInt(parts[0]);
+            lastId = Long.parseLong(parts[1]);
+        }
+
+        int currentShard = shard;
+        long afterId = lastId;
+        List<Project> chunk = shardTemplate.onShard(currentShard, () -> transactionTemplate.execute(status -> {
+            List<Project> projects = projectRepository.findByDeadlineIsNotNullAndIdGreaterThanOrderById(
+                    afterId, PageRequest.of(0, chunkSize));
+            for (Project project : projects) {
+                DeadlineStatus previous = project.getDeadlineStatus();
+                project.updateDeadlineStatus();
+                if (project.getDeadlineStatus() != previous) {
+                    projectRepository.save(project);
+                    // The list shows the deadline status, so delta syncs need to see it change
+                    changeService.recordUpdate(project.getId());
+                }
+            }
+            return projects;
+        }));
+
+        if (chunk.size() == chunkSize) {
+            return ChunkResult.more(shard + ":" + chunk.get(chunk.size() - 1).getId(), chunk.size());
+        }
+        if (shard + 1 < shardTemplate.getShardCount()) {
+            return ChunkResult.more((shard + 1) + ":0", chunk.size());
+        }
+        return ChunkResult.done(chunk.size());
+    }
+}
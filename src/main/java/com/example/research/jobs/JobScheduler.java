@@ -0,0 +1,166 @@
+package com.example.research.jobs;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
+
+import com.example.research.model.JobLease;
+import com.example.research.model.JobRun;
+import com.example.research.model.JobRunStatus;
+import com.example.research.repository.JobLeaseRepository;
+import com.example.research.repository.JobRunRepository;
+
+/**
+ * Registers every {@link ScheduledJob} bean on its cron schedule. Each node
+ * fires every trigger, but a run only goes ahead on the node that takes the
+ * job's lease row, and the lease is renewed after every chunk. The lease row
+ * also records the cron fire time it was taken for, so a node whose trigger
+ * fires late can't run the same fire again after a fast run has released the
+ * lease. If a node dies mid-run the lease expires and the next trigger on any
+ * node resumes from the stored checkpoint.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jobs", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JobScheduler implements SchedulingConfigurer {
+    private static final Logger logger = LoggerFactory.getLogger(JobScheduler.class);
+
+    @Autowired
+    private List<ScheduledJob> jobs;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Value("${jobs.lease-duration:PT5M}")
+    private Duration leaseDuration;
+
+    @Value("${jobs.node-id:}")
+    private String configuredNodeId;
+
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        for (ScheduledJob job : jobs) {
+            logger.info("Scheduling job {} with cron {}", job.getName(), job.getCron());
+            CronTrigger cron = new CronTrigger(job.getCron());
+            // The scheduler asks for the next execution before each run, so this
+            // holds the fire time of the run in progress
+            AtomicReference<Instant> fireTime = new AtomicReference<>();
+            registrar.addTriggerTask(
+                    () -> runJob(job, LocalDateTime.ofInstant(fireTime.get(), ZoneId.systemDefault())),
+                    context -> {
+                        Instant next = cron.nextExecution(context);
+                        fireTime.set(next);
+                        return next;
+                    });
+        }
+    }
+
+    public String getNodeId() {
+        return configuredNodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : configuredNodeId;
+    }
+
+    public void runJob(ScheduledJob job) {
+        runJob(job, LocalDateTime.now());
+    }
+
+    public void runJob(ScheduledJob job, LocalDateTime fireTime) {
+        if (!runningJobs.add(job.getName())) {
+            logger.debug("Job {} is still running on this node, skipping trigger", job.getName());
+            return;
+        }
+        try {
+            String nodeId = getNodeId();
+            ensureLeaseRow(job.getName());
+            LocalDateTime now = LocalDateTime.now();
+            if (jobLeaseRepository.tryAcquire(job.getName(), nodeId, fireTime, now, now.plus(leaseDuration)) == 0) {
+                logger.debug("Job {} is leased by another node or already ran for {}, skipping trigger",
+                        job.getName(), fireTime);
+                return;
+            }
+            execute(job, nodeId);
+        } finally {
+            runningJobs.remove(job.getName());
+        }
+    }
+
+    private void execute(ScheduledJob job, String nodeId) {
+        String checkpoint = jobLeaseRepository.findById(job.getName())
+                .map(JobLease::getCheckpoint)
+                .orElse(null);
+        if (checkpoint != null) {
+            logger.info("Resuming job {} from checkpoint {}", job.getName(), checkpoint);
+        }
+
+        JobRun run = new JobRun();
+        run.setJobName(job.getName());
+        run.setNodeId(nodeId);
+        run.setStatus(JobRunStatus.RUNNING);
+        run.setStartedAt(LocalDateTime.now());
+        run = jobRunRepository.save(run);
+        long startNanos = System.nanoTime();
+
+        try {
+            job.beforeRun();
+            while (true) {
+                ChunkResult result = job.processChunk(checkpoint);
+                run.setItemsProcessed(run.getItemsProcessed() + result.getItemsProcessed());
+                checkpoint = result.getNextCheckpoint();
+
+                LocalDateTime until = LocalDateTime.now().plus(leaseDuration);
+                if (jobLeaseRepository.renew(job.getName(), nodeId, until, checkpoint) == 0) {
+                    throw new IllegalStateException("Lease lost to another node");
+                }
+                if (result.isDone()) {
+                    break;
+                }
+            }
+            run.setStatus(JobRunStatus.SUCCEEDED);
+        } catch (RuntimeException e) {
+            logger.error("Job {} failed: {}", job.getName(), e.getMessage());
+            run.setStatus(JobRunStatus.FAILED);
+            String message = String.valueOf(e.getMessage());
+            run.setErrorMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+        } finally {
+            jobLeaseRepository.release(job.getName(), nodeId);
+            run.setFinishedAt(LocalDateTime.now());
+            run.setDurationMs((System.nanoTime() - startNanos) / 1_000_000);
+            jobRunRepository.save(run);
+            logger.info("Job {} {} in {} ms, {} items", job.getName(), run.getStatus(),
+                    run.getDurationMs(), run.getItemsProcessed());
+        }
+    }
+
+    private void ensureLeaseRow(String jobName) {
+        if (jobLeaseRepository.existsById(jobName)) {
+            return;
+        }
+        try {
+            JobLease lease = new JobLease();
+            lease.setJobName(jobName);
+            jobLeaseRepository.save(lease);
+        } catch (DataIntegrityViolationException e) {
+            // Another node created it first
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.research.jobs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.research.model.ProjectChange;
+import com.example.research.repository.ProjectChangeRepository;
+import com.example.research.sharding.ShardPositions;
+import com.example.research.sharding.ShardTemplate;
+
+/**
+ * Drops project_changes rows that a later change to the same project has
+ * superseded, so the log stays about one row per project. Clients behind a
+ * dropped row still see the later one. The checkpoint is the last seq seen
+ * and is kept between runs: only a new row can supersede others, so each run
+ * reads the rows written since the last one and drops the older rows of
+ * those projects. Each shard has its own log, so the checkpoint holds a seq
+ * per shard and a chunk works through one shard at a time.
+ */
+@Component
+public class ProjectChangeCompactionJob implements ScheduledJob {
+
+    @Autowired
+    private ProjectChangeRepository changeRepository;
+
+    @Autowired
+    private ShardTemplate shardTemplate;
+
+    @Value("${jobs.project-change-compaction.cron:0 30 * * * *}")
+    private String cron;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ProjectChangeCompactionJob(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String getName() {
+        return "project-change-compaction";
+    }
+
+    @Override
+    public String getCron() {
+        return cron;
+    }
+
+    @Override
+    public ChunkResult processChunk(String checkpoint) {
+        long[] positions = startingPositions(checkpoint);
+        for (int shard = 0; shard < positions.length; shard++) {
+            long afterSeq = positions[shard];
+            List<ProjectChange> chunk = shardTemplate.onShard(shard,
+                    () -> changeRepository.findBySeqGreaterThanOrderBySeq(afterSeq, PageRequest.of(0, chunkSize)));
+            if (chunk.isEmpty()) {
+                continue;
+            }
+
+            int dropped = shardTemplate.onShard(shard, () -> compact(chunk));
+            positions[shard] = chunk.get(chunk.size() - 1).getSeq();
+            String next = ShardPositions.format(positions);
+            if (chunk.size() == chunkSize || shard < positions.length - 1) {
+                return ChunkResult.more(next, dropped);
+            }
+            return ChunkResult.doneAt(next, dropped);
+        }
+        return ChunkResult.doneAt(ShardPositions.format(positions), 0);
+    }
+
+    private long[] startingPositions(String checkpoint) {
+        if (checkpoint == null) {
+            return ShardPositions.start(shardTemplate.getShardCount());
+        }
+        try {
+            return ShardPositions.parse(checkpoint, shardTemplate.getShardCount());
+        } catch (IllegalArgumentException e) {
+            // Written for another shard count; compacting again from the start is harmless
+            return ShardPositions.start(shardTemplate.getShardCount());
+        }
+    }
+
+    private int compact(List<ProjectChange> chunk) {
+        Set<Long> projectIds = chunk.stream().map(ProjectChange::getProjectId).collect(Collectors.toSet());
+        Map<Long, List<ProjectChange>> byProject = changeRepository.findByProjectIdIn(projectIds).stream()
+                .collect(Collectors.groupingBy(ProjectChange::getProjectId));
+        List<Long> superseded = new ArrayList<>();
+        for (List<ProjectChange> changes : byProject.values()) {
+            long latestSeq = changes.stream().mapToLong(ProjectChange::getSeq).max().orElseThrow();
+            changes.stream()
+                    .map(ProjectChange::getSeq)
+                    .filter(seq -> seq < latestSeq)
+                    .forEach(superseded::add);
+        }
+        if (!superseded.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> changeRepository.deleteAllByIdInBatch(superseded));
+        }
+        return superseded.size();
+    }
+}
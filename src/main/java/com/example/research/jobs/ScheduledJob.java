@@ -0,0 +1,28 @@
+package com.example.research.jobs;
+
+/**
+ * A periodic job run by {@link JobScheduler}. Work is done in chunks: each
+ * call should commit its own small transaction and return where the next
+ * chunk starts, so a run interrupted part way (or a lease lost to another
+ * node) resumes from the last checkpoint instead of starting over. A job
+ * that only ever needs to look at new rows can end with
+ * {@link ChunkResult#doneAt} so the next run starts where this one stopped.
+ */
+public interface ScheduledJob {
+
+    String getName();
+
+    String getCron();
+
+    /**
+     * Called on the node that took the lease, before the run's first chunk.
+     */
+    default void beforeRun() {
+    }
+
+    /**
+     * Processes one chunk starting at the given checkpoint, or from the
+     * beginning when it is null.
+     */
+    ChunkResult processChunk(String checkpoint);
+}
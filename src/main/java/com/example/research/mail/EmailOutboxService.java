@@ -0,0 +1,52 @@
+package com.example.research.mail;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.research.model.OutboxEmail;
+import com.example.research.model.OutboxEmailStatus;
+import com.example.research.repository.OutboxEmailRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Queues templated emails for {@link EmailOutboxWorker} to send. Callers only
+ * pay for one insert, so request threads never wait on SMTP. Enqueue inside
+ * the caller's transaction and the email is only sent if that commits.
+ */
+@Service
+public class EmailOutboxService {
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    public static final String TEMPLATE_WELCOME = "welcome";
+    public static final String TEMPLATE_EMAIL_VERIFICATION = "email-verification";
+    public static final String TEMPLATE_PASSWORD_RESET = "password-reset";
+    public static final String TEMPLATE_PASSWORD_CHANGED = "password-changed";
+    public static final String TEMPLATE_DEADLINE_REMINDER = "deadline-reminder";
+
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public OutboxEmail enqueue(String recipient, String subject, String templateName, Map<String, Object> variables) {
+        OutboxEmail email = new OutboxEmail();
+        email.setRecipient(recipient);
+        email.setSubject(subject);
+        email.setTemplateName(templateName);
+        try {
+            email.setVariables(objectMapper.writeValueAsString(variables));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Email variables must be JSON serializable", e);
+        }
+        email.setStatus(OutboxEmailStatus.PENDING);
+        OutboxEmail saved = outboxEmailRepository.save(email);
+        logger.info("Queued {} email {} for {}", templateName, saved.getId(), recipient);
+        return saved;
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.research.mail;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import com.example.research.model.OutboxEmail;
+import com.example.research.model.OutboxEmailStatus;
+import com.example.research.repository.OutboxEmailRepository;
+import com.example.research.util.TokenBucket;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Drains the email outbox. Each poll claims due messages, splits them into
+ * batches and hands the batches to a small worker pool. The scheduled trigger
+ * only starts a drain on the outbox's own thread, so a slow SMTP server never
+ * holds up the shared scheduler that also runs the job triggers. Each send
+ * thread keeps its own SMTP connection open across batches, so the pool holds
+ * at most one connection per worker. Sends are paced by a shared token bucket,
+ * and failures are retried with exponential backoff until the attempt limit is
+ * reached. A message's outcome is only recorded while the claim that sent it
+ * still holds.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mail.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxWorker {
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxWorker.class);
+
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private TemplateEngine templateEngine;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.mail.from}")
+    private String fromAddress;
+
+    @Value("${mail.outbox.workers:4}")
+    private int workers;
+
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.outbox.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.initial-backoff:PT30S}")
+    private Duration initialBackoff;
+
+    @Value("${mail.outbox.max-backoff:PT1H}")
+    private Duration maxBackoff;
+
+    @Value("${mail.outbox.claim-timeout:PT5M}")
+    private Duration claimTimeout;
+
+    private ExecutorService drainExecutor;
+    private ExecutorService executor;
+    private TokenBucket rateLimiter;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final ThreadLocal<Transport> workerTransport = new ThreadLocal<>();
+    private final Set<Transport> openTransports = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void start() {
+        drainExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("outbox-poll-"));
+        executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("outbox-send-"));
+        rateLimiter = new TokenBucket(Math.max(1, ratePerSecond), ratePerSecond);
+    }
+
+    @PreDestroy
+    public void stop() {
+        drainExecutor.shutdown();
+        executor.shutdown();
+        openTransports.forEach(EmailOutboxWorker::closeQuietly);
+    }
+
+    /**
+     * Starts a drain unless the previous one is still sending. Returns
+     * straight away.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:PT5S}")
+    public void poll() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            drainExecutor.execute(() -> {
+                try {
+                    drain();
+                } catch (RuntimeException e) {
+                    logger.error("Outbox drain failed: {}", e.getMessage());
+                } finally {
+                    draining.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            draining.set(false);
+        }
+    }
+
+    boolean isDraining() {
+        return draining.get();
+    }
+
+    private void drain() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEmail> candidates = outboxEmailRepository.findClaimable(now, PageRequest.of(0, workers * batchSize));
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        List<Long> ids = candidates.stream().map(OutboxEmail::getId).collect(Collectors.toList());
+        if (outboxEmailRepository.claim(ids, token, now, now.plus(claimTimeout)) == 0) {
+            return;
+        }
+        List<OutboxEmail> claimed = outboxEmailRepository.findByClaimToken(token);
+        logger.debug("Claimed {} outbox emails", claimed.size());
+
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int start = 0; start < claimed.size(); start += batchSize) {
+            List<OutboxEmail> batch = claimed.subList(start, Math.min(start + batchSize, claimed.size()));
+            batches.add(CompletableFuture.runAsync(() -> sendBatch(batch), executor));
+        }
+        // Wait so the next drain never overlaps batches still in flight
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void sendBatch(List<OutboxEmail> batch) {
+        Map<MimeMessage, OutboxEmail> messages = new IdentityHashMap<>();
+        for (OutboxEmail email : batch) {
+            try {
+                messages.put(render(email), email);
+            } catch (Exception e) {
+                markFailedAttempt(email, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            // One token per message, so a batch larger than the bucket still gets through
+            for (int i = 0; i < messages.size(); i++) {
+                rateLimiter.acquire(1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Claims time out and the messages are picked up again
+            return;
+        }
+
+        // A claim that ran out while waiting may already belong to another poll
+        LocalDateTime now = LocalDateTime.now();
+        messages.values().removeIf(email -> email.getClaimedUntil().isBefore(now));
+
+        if (mailSender instanceof JavaMailSenderImpl smtp) {
+            sendOnWorkerConnection(smtp, messages);
+        } else {
+            sendInOneCall(messages);
+        }
+    }
+
+    private void sendOnWorkerConnection(JavaMailSenderImpl smtp, Map<MimeMessage, OutboxEmail> messages) {
+        Transport transport;
+        try {
+            transport = connectedTransport(smtp);
+        } catch (MessagingException e) {
+            messages.values().forEach(email -> markFailedAttempt(email, e));
+            return;
+        }
+        for (Map.Entry<MimeMessage, OutboxEmail> entry : messages.entrySet()) {
+            MimeMessage message = entry.getKey();
+            try {
+                if (message.getSentDate() == null) {
+                    message.setSentDate(new Date());
+                }
+                message.saveChanges();
+                transport.sendMessage(message, message.getAllRecipients());
+                markSent(entry.getValue());
+            } catch (MessagingException e) {
+                markFailedAttempt(entry.getValue(), e);
+            }
+        }
+    }
+
+    /**
+     * This thread's SMTP connection, reopened if the server has dropped it.
+     */
+    private Transport connectedTransport(JavaMailSenderImpl smtp) throws MessagingException {
+        Transport transport = workerTransport.get();
+        if (transport != null) {
+            if (transport.isConnected()) {
+                return transport;
+            }
+            openTransports.remove(transport);
+            closeQuietly(transport);
+            workerTransport.remove();
+        }
+        transport = smtp.getSession().getTransport(smtp.getProtocol());
+        transport.connect(smtp.getHost(), smtp.getPort(), smtp.getUsername(), smtp.getPassword());
+        workerTransport.set(transport);
+        openTransports.add(transport);
+        return transport;
+    }
+
+    // Any other JavaMailSender gets the whole batch in one call
+    private void sendInOneCall(Map<MimeMessage, OutboxEmail> messages) {
+        Map<Object, Exception> failures = Map.of();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                // Connection level failure, nothing in the batch went out
+                messages.values().forEach(email -> markFailedAttempt(email, e));
+                return;
+            }
+        } catch (Exception e) {
+            messages.values().forEach(email -> markFailedAttempt(email, e));
+            return;
+        }
+
+        for (Map.Entry<MimeMessage, OutboxEmail> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure != null) {
+                markFailedAttempt(entry.getValue(), failure);
+            } else {
+                markSent(entry.getValue());
+            }
+        }
+    }
+
+    private MimeMessage render(OutboxEmail email) throws Exception {
+        Context context = new Context();
+        if (email.getVariables() != null) {
+            Map<String, Object> variables = objectMapper.readValue(email.getVariables(),
+                    new TypeReference<Map<String, Object>>() { });
+            context.setVariables(variables);
+        }
+        String html = templateEngine.process(email.getTemplateName(), context);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(fromAddress);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(html, true);
+        return message;
+    }
+
+    private void markSent(OutboxEmail email) {
+        if (outboxEmailRepository.markSent(email.getId(), email.getClaimToken(), LocalDateTime.now()) == 0) {
+            logger.warn("Email {} was sent after its claim was taken over", email.getId());
+        }
+    }
+
+    private void markFailedAttempt(OutboxEmail email, Exception e) {
+        String message = String.valueOf(e.getMessage());
+        String error = message.length() > 1000 ? message.substring(0, 1000) : message;
+        OutboxEmailStatus status;
+        LocalDateTime nextAttemptAt;
+        if (email.getAttempts() >= maxAttempts) {
+            status = OutboxEmailStatus.FAILED;
+            nextAttemptAt = email.getNextAttemptAt();
+            logger.error("Giving up on email {} to {} after {} attempts: {}",
+                    email.getId(), email.getRecipient(), email.getAttempts(), message);
+        } else {
+            Duration backoff = initialBackoff.multipliedBy(1L << Math.min(email.getAttempts() - 1, 20));
+            if (backoff.compareTo(maxBackoff) > 0) {
+                backoff = maxBackoff;
+            }
+            status = OutboxEmailStatus.PENDING;
+            nextAttemptAt = LocalDateTime.now().plus(backoff);
+            logger.warn("Email {} attempt {} failed, retrying in {}: {}",
+                    email.getId(), email.getAttempts(), backoff, message);
+        }
+        if (outboxEmailRepository.markFailedAttempt(email.getId(), email.getClaimToken(), status,
+                nextAttemptAt, error) == 0) {
+            logger.warn("Email {} failed after its claim was taken over", email.getId());
+        }
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            // Already gone
+        }
+    }
+}
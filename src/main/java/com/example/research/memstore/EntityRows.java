@@ -0,0 +1,91 @@
+package com.example.research.memstore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.research.model.Project;
+import com.example.research.model.StatusHistory;
+import com.example.research.model.User;
+
+/**
+ * Converts between the stored rows and the JPA entity classes. Entities
+ * handed out are fresh copies, so callers can change them freely until they
+ * save, just as with detached entities.
+ */
+final class EntityRows {
+
+    private EntityRows() {
+    }
+
+    static User toUser(UserRow row) {
+        User user = new User();
+        user.setId(row.id());
+        user.setUsername(row.username());
+        user.setEmail(row.email());
+        user.setPassword(row.password());
+        user.setFirstName(row.firstName());
+        user.setLastName(row.lastName());
+        user.setTitle(row.title());
+        user.setDepartment(row.department());
+        user.setInstitution(row.institution());
+        user.setCreatedAt(row.createdAt());
+        user.setUpdatedAt(row.updatedAt());
+        return user;
+    }
+
+    static UserRow fromUser(User user) {
+        return new UserRow(user.getId(), user.getUsername(), user.getEmail(), user.getPassword(),
+                user.getFirstName(), user.getLastName(), user.getTitle(), user.getDepartment(),
+                user.getInstitution(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    /** The project with its owner and status history, as the EAGER mappings load it. */
+    static Project toProject(MemoryStore store, ProjectRow row) {
+        Project project = new Project();
+        project.setId(row.id());
+        project.setTitle(row.title());
+        project.setSummary(row.summary());
+        project.setStatus(row.status());
+        project.setStartDate(row.startDate());
+        project.setEndDate(row.endDate());
+        project.setOwner(row.ownerId() != null ? store.user(row.ownerId()).map(EntityRows::toUser).orElse(null) : null);
+        project.setCreatedAt(row.createdAt());
+        project.setUpdatedAt(row.updatedAt());
+        project.setDeadline(row.deadline());
+        project.setDeadlineStatus(row.deadlineStatus());
+        project.setReminderSent(row.reminderSent());
+
+        List<StatusHistory> history = new ArrayList<>();
+        for (HistoryRow historyRow : store.historyForProject(row.id())) {
+            history.add(toHistory(store, historyRow, project));
+        }
+        project.setStatusHistory(history);
+        return project;
+    }
+
+    static ProjectRow fromProject(Project project) {
+        return new ProjectRow(project.getId(), project.getTitle(), project.getSummary(), project.getStatus(),
+                project.getStartDate(), project.getEndDate(),
+                project.getOwner() != null ? project.getOwner().getId() : null,
+                project.getCreatedAt(), project.getUpdatedAt(), project.getDeadline(),
+                project.getDeadlineStatus(), project.getReminderSent());
+    }
+
+    static StatusHistory toHistory(MemoryStore store, HistoryRow row, Project project) {
+        StatusHistory history = new StatusHistory();
+        history.setId(row.id());
+        history.setProject(project);
+        history.setOldStatus(row.oldStatus());
+        history.setNewStatus(row.newStatus());
+        history.setChangedAt(row.changedAt());
+        history.setChangedBy(row.changedById() != null
+                ? store.user(row.changedById()).map(EntityRows::toUser).orElse(null)
+                : null);
+        return history;
+    }
+
+    static HistoryRow fromHistory(StatusHistory history, long projectId) {
+        return new HistoryRow(history.getId(), projectId, history.getOldStatus(), history.getNewStatus(),
+                history.getChangedAt(), history.getChangedBy() != null ? history.getChangedBy().getId() : null);
+    }
+}
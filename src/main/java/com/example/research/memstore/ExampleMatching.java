@@ -0,0 +1,128 @@
+package com.example.research.memstore;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import org.springframework.util.ReflectionUtils;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Transient;
+
+/**
+ * Evaluates a query-by-example probe against entities in memory, following
+ * the JPA implementation's rules: every persistent field of the probe takes
+ * part unless its path is ignored or it is null (and nulls are ignored),
+ * associations to other entities are compared field by field, collections
+ * are skipped, and strings honour the matcher's string matching and case
+ * settings.
+ */
+final class ExampleMatching {
+
+    private ExampleMatching() {
+    }
+
+    static <T> Predicate<T> predicate(Example<? extends T> example) {
+        ExampleMatcher matcher = example.getMatcher();
+        ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(matcher);
+        List<Predicate<Object>> conditions = new ArrayList<>();
+        collect(example.getProbe(), "", accessor, conditions);
+
+        Class<?> probeType = example.getProbeType();
+        return entity -> {
+            if (!probeType.isInstance(entity)) {
+                return false;
+            }
+            if (conditions.isEmpty()) {
+                return true;
+            }
+            return matcher.isAllMatching()
+                    ? conditions.stream().allMatch(condition -> condition.test(entity))
+                    : conditions.stream().anyMatch(condition -> condition.test(entity));
+        };
+    }
+
+    private static void collect(Object probe, String prefix, ExampleMatcherAccessor accessor,
+            List<Predicate<Object>> conditions) {
+        for (Field field : persistentFields(probe.getClass())) {
+            String path = prefix + field.getName();
+            if (accessor.isIgnoredPath(path)) {
+                continue;
+            }
+            Object value = accessor.getValueTransformerForPath(path)
+                    .apply(Optional.ofNullable(ReflectionUtils.getField(field, probe)))
+                    .orElse(null);
+            if (value == null) {
+                if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    conditions.add(entity -> read(entity, path) == null);
+                }
+            } else if (field.getType().isAnnotationPresent(Entity.class)) {
+                collect(value, path + ".", accessor, conditions);
+            } else if (value instanceof String string) {
+                conditions.add(stringCondition(path, string, accessor));
+            } else {
+                conditions.add(entity -> Objects.equals(read(entity, path), value));
+            }
+        }
+    }
+
+    private static Predicate<Object> stringCondition(String path, String expected, ExampleMatcherAccessor accessor) {
+        boolean ignoreCase = accessor.isIgnoreCaseForPath(path);
+        ExampleMatcher.StringMatcher stringMatcher = accessor.getStringMatcherForPath(path);
+        if (stringMatcher == ExampleMatcher.StringMatcher.REGEX) {
+            Pattern pattern = Pattern.compile(expected, ignoreCase ? Pattern.CASE_INSENSITIVE : 0);
+            return entity -> read(entity, path) instanceof String actual && pattern.matcher(actual).matches();
+        }
+        String probe = ignoreCase ? expected.toLowerCase() : expected;
+        return entity -> {
+            if (!(read(entity, path) instanceof String actual)) {
+                return false;
+            }
+            String candidate = ignoreCase ? actual.toLowerCase() : actual;
+            return switch (stringMatcher) {
+                case STARTING -> candidate.startsWith(probe);
+                case ENDING -> candidate.endsWith(probe);
+                case CONTAINING -> candidate.contains(probe);
+                default -> candidate.equals(probe);
+            };
+        };
+    }
+
+    private static Object read(Object entity, String path) {
+        Object current = entity;
+        for (String name : path.split("\\.")) {
+            if (current == null) {
+                return null;
+            }
+            Field field = ReflectionUtils.findField(current.getClass(), name);
+            if (field == null) {
+                return null;
+            }
+            ReflectionUtils.makeAccessible(field);
+            current = ReflectionUtils.getField(field, current);
+        }
+        return current;
+    }
+
+    private static List<Field> persistentFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        ReflectionUtils.doWithFields(type, field -> {
+            ReflectionUtils.makeAccessible(field);
+            fields.add(field);
+        }, field -> !Modifier.isStatic(field.getModifiers())
+                && !field.isAnnotationPresent(Transient.class)
+                && !Collection.class.isAssignableFrom(field.getType())
+                && !Map.class.isAssignableFrom(field.getType()));
+        return fields;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.research.memstore;
+
+import java.time.LocalDateTime;
+
+import com.example.research.model.ProjectStatus;
+
+record HistoryRow(
+        long id,
+        long projectId,
+        ProjectStatus oldStatus,
+        ProjectStatus newStatus,
+        LocalDateTime changedAt,
+        Long changedById) {
+}
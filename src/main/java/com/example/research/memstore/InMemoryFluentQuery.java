@@ -0,0 +1,141 @@
+package com.example.research.memstore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+
+/**
+ * {@link FluentQuery.FetchableFluentQuery} over an already filtered list.
+ * Property hints from {@code project} are accepted and ignored, since rows
+ * are always fully loaded; {@code as} returns the entities themselves or an
+ * interface projection of them.
+ */
+final class InMemoryFluentQuery<S, R> implements FluentQuery.FetchableFluentQuery<R> {
+    private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private final Supplier<List<S>> matches;
+    private final Function<Sort, Comparator<S>> comparators;
+    private final Class<R> resultType;
+    private final Sort sort;
+    private final int limit;
+
+    private InMemoryFluentQuery(Supplier<List<S>> matches, Function<Sort, Comparator<S>> comparators,
+            Class<R> resultType, Sort sort, int limit) {
+        this.matches = matches;
+        this.comparators = comparators;
+        this.resultType = resultType;
+        this.sort = sort;
+        this.limit = limit;
+    }
+
+    static <S> InMemoryFluentQuery<S, S> of(Supplier<List<S>> matches, Class<S> type,
+            Function<Sort, Comparator<S>> comparators) {
+        return new InMemoryFluentQuery<>(matches, comparators, type, Sort.unsorted(), 0);
+    }
+
+    @Override
+    public FetchableFluentQuery<R> sortBy(Sort sort) {
+        return new InMemoryFluentQuery<>(matches, comparators, resultType, this.sort.and(sort), limit);
+    }
+
+    @Override
+    public FetchableFluentQuery<R> limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        return new InMemoryFluentQuery<>(matches, comparators, resultType, sort, limit);
+    }
+
+    @Override
+    public <N> FetchableFluentQuery<N> as(Class<N> resultType) {
+        if (!resultType.isInterface() && !resultType.isAssignableFrom(this.resultType)) {
+            throw new UnsupportedOperationException("Only interface projections are supported, not " + resultType);
+        }
+        return new InMemoryFluentQuery<>(matches, comparators, resultType, sort, limit);
+    }
+
+    @Override
+    public FetchableFluentQuery<R> project(Collection<String> properties) {
+        return this;
+    }
+
+    @Override
+    public R oneValue() {
+        List<S> found = sorted();
+        if (found.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, found.size());
+        }
+        return found.isEmpty() ? null : convert(found.get(0));
+    }
+
+    @Override
+    public R firstValue() {
+        List<S> found = sorted();
+        return found.isEmpty() ? null : convert(found.get(0));
+    }
+
+    @Override
+    public List<R> all() {
+        return stream().collect(Collectors.toList());
+    }
+
+    @Override
+    public Page<R> page(Pageable pageable) {
+        List<S> found = new ArrayList<>(matches.get());
+        Sort pageSort = pageable.getSort().isSorted() ? pageable.getSort().and(sort) : sort;
+        if (pageSort.isSorted()) {
+            found.sort(comparators.apply(pageSort));
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(found.stream().map(this::convert).collect(Collectors.toList()));
+        }
+        int from = (int) Math.min(pageable.getOffset(), found.size());
+        int to = Math.min(from + pageable.getPageSize(), found.size());
+        List<R> content = found.subList(from, to).stream().map(this::convert).collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, found.size());
+    }
+
+    @Override
+    public Stream<R> stream() {
+        Stream<S> found = sorted().stream();
+        if (limit > 0) {
+            found = found.limit(limit);
+        }
+        return found.map(this::convert);
+    }
+
+    @Override
+    public long count() {
+        return matches.get().size();
+    }
+
+    @Override
+    public boolean exists() {
+        return !matches.get().isEmpty();
+    }
+
+    private List<S> sorted() {
+        List<S> found = new ArrayList<>(matches.get());
+        if (sort.isSorted()) {
+            found.sort(comparators.apply(sort));
+        }
+        return found;
+    }
+
+    private R convert(S entity) {
+        return resultType.isInstance(entity) ? resultType.cast(entity) : PROJECTIONS.createProjection(resultType, entity);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.research.memstore;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.Project;
+import com.example.research.model.ProjectStatus;
+import com.example.research.model.StatusHistory;
+import com.example.research.model.User;
+import com.example.research.repository.ProjectRepository;
+
+@Repository
+@Primary
+@Profile("memory-store")
+public class InMemoryProjectRepository extends InMemoryJpaRepository<Project> implements ProjectRepository {
+
+    @Autowired
+    private MemoryStore store;
+
+    @Override
+    protected Long idOf(Project project) {
+        return project.getId();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Project> S save(S project) {
+        Optional<ProjectRow> existing = project.getId() != null ? store.project(project.getId()) : Optional.empty();
+        // Stand-ins for the entity's @PrePersist/@PreUpdate callbacks
+        LocalDate today = LocalDate.now();
+        if (project.getId() == null) {
+            project.setId(store.nextProjectId());
+        }
+        project.setCreatedAt(existing.map(ProjectRow::createdAt).orElse(today));
+        project.setUpdatedAt(today);
+
+        // Status changes added to the project are saved with it, like the cascade
+        List<HistoryRow> newHistory = new ArrayList<>();
+        if (project.getStatusHistory() != null) {
+            for (StatusHistory history : project.getStatusHistory()) {
+                if (history.getId() == null) {
+                    history.setId(store.nextHistoryId());
+                    history.setChangedAt(LocalDateTime.now());
+                    newHistory.add(EntityRows.fromHistory(history, project.getId()));
+                }
+            }
+        }
+        store.putProject(EntityRows.fromProject(project), newHistory);
+        return (S) findById(project.getId()).orElseThrow();
+    }
+
+    @Override
+    public Optional<Project> findById(Long id) {
+        return id == null ? Optional.empty() : store.project(id).map(this::toEntity);
+    }
+
+    @Override
+    public List<Project> findAll() {
+        return toEntities(store.projects());
+    }
+
+    @Override
+    public long count() {
+        return store.projectCount();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        store.deleteProject(id);
+    }
+
+    @Override
+    public List<Project> findByOwner(User owner) {
+        return owner == null || owner.getId() == null ? List.of() : toEntities(store.projectsByOwner(owner.getId()));
+    }
+
+    @Override
+    public List<Project> findByStatus(ProjectStatus status) {
+        return toEntities(store.projectsByStatus(status));
+    }
+
+    @Override
+    public long countByStatus(ProjectStatus status) {
+        return store.countProjectsByStatus(status);
+    }
+
+    @Override
+    public long countByOwner(User owner) {
+        return owner == null || owner.getId() == null ? 0L : store.countProjectsByOwner(owner.getId());
+    }
+
+    @Override
+    public List<Project> findByDeadlineIsNotNullOrderByDeadline() {
+        return toEntities(store.projectsByDeadline());
+    }
+
+    @Override
+    public List<Project> findByDeadlineIsNotNullAndIdGreaterThanOrderById(Long id, Pageable pageable) {
+        long skip = pageable.isPaged() ? pageable.getOffset() : 0L;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        return toEntities(store.projectsWithDeadlineAfter(id != null ? id : Long.MIN_VALUE, skip, limit));
+    }
+
+    @Override
+    public List<Project> findReminderCandidates(LocalDate horizon) {
+        return toEntities(store.projectsByDeadline(horizon).stream()
+                .filter(project -> !Boolean.TRUE.equals(project.reminderSent())
+                        || project.deadlineStatus() != DeadlineStatus.OVERDUE)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public int markReminderSent(Collection<Long> ids, DeadlineStatus status) {
+        return store.updateProjects(ids, row -> row.withReminderSent(status));
+    }
+
+    private Project toEntity(ProjectRow row) {
+        return EntityRows.toProject(store, row);
+    }
+
+    private List<Project> toEntities(List<ProjectRow> rows) {
+        return rows.stream().map(this::toEntity).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.research.memstore;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.stereotype.Repository;
+
+import com.example.research.model.StatusHistory;
+import com.example.research.repository.StatusHistoryRepository;
+
+@Repository
+@Primary
+@Profile("memory-store")
+public class InMemoryStatusHistoryRepository extends InMemoryJpaRepository<StatusHistory>
+        implements StatusHistoryRepository {
+
+    @Autowired
+    private MemoryStore store;
+
+    @Override
+    protected Long idOf(StatusHistory history) {
+        return history.getId();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends StatusHistory> S save(S history) {
+        if (history.getProject() == null || history.getProject().getId() == null) {
+            throw new InvalidDataAccessApiUsageException("Status history needs a saved project");
+        }
+        if (history.getId() == null) {
+            history.setId(store.nextHistoryId());
+            history.setChangedAt(LocalDateTime.now());
+        }
+        HistoryRow row = EntityRows.fromHistory(history, history.getProject().getId());
+        store.putHistory(row);
+        return (S) toEntity(row);
+    }
+
+    @Override
+    public Optional<StatusHistory> findById(Long id) {
+        return id == null ? Optional.empty() : store.historyRow(id).map(this::toEntity);
+    }
+
+    @Override
+    public List<StatusHistory> findAll() {
+        return toEntities(store.history());
+    }
+
+    @Override
+    public long count() {
+        return store.historyCount();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        store.deleteHistory(id);
+    }
+
+    @Override
+    public List<StatusHistory> findTop10ByOrderByChangedAtDesc() {
+        return toEntities(store.latestHistory(10));
+    }
+
+    private StatusHistory toEntity(HistoryRow row) {
+        return EntityRows.toHistory(store, row,
+                store.project(row.projectId()).map(project -> EntityRows.toProject(store, project)).orElse(null));
+    }
+
+    private List<StatusHistory> toEntities(List<HistoryRow> rows) {
+        return rows.stream().map(this::toEntity).collect(Collectors.toList());
+    }
+}
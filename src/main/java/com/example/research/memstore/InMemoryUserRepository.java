@@ -0,0 +1,89 @@
+package com.example.research.memstore;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.example.research.model.User;
+import com.example.research.repository.UserRepository;
+
+@Repository
+@Primary
+@Profile("memory-store")
+public class InMemoryUserRepository extends InMemoryJpaRepository<User> implements UserRepository {
+
+    @Autowired
+    private MemoryStore store;
+
+    @Autowired
+    private RelationalUserMirror userMirror;
+
+    @Override
+    protected Long idOf(User user) {
+        return user.getId();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends User> S save(S user) {
+        Optional<UserRow> existing = user.getId() != null ? store.user(user.getId()) : Optional.empty();
+        LocalDateTime now = LocalDateTime.now();
+        if (user.getId() == null) {
+            user.setId(store.nextUserId());
+        }
+        user.setCreatedAt(existing.map(UserRow::createdAt).orElse(now));
+        user.setUpdatedAt(now);
+
+        UserRow row = EntityRows.fromUser(user);
+        store.putUser(row);
+        userMirror.save(row);
+        return (S) EntityRows.toUser(row);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return id == null ? Optional.empty() : store.user(id).map(EntityRows::toUser);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return store.users().stream().map(EntityRows::toUser).collect(Collectors.toList());
+    }
+
+    @Override
+    public long count() {
+        return store.userCount();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        store.deleteUser(id);
+        userMirror.delete(id);
+    }
+
+    @Override
+    public User findByUsername(String username) {
+        return store.userByUsername(username).map(EntityRows::toUser).orElse(null);
+    }
+
+    @Override
+    public User findByEmail(String email) {
+        return store.userByEmail(email).map(EntityRows::toUser).orElse(null);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return store.userByUsername(username).isPresent();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return store.userByEmail(email).isPresent();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.research.memstore;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential reader over a memory-mapped file. Maps a window at a time so
+ * files larger than a single mapping (2 GB) can be read; a window is remapped
+ * whenever the next read would cross its end.
+ */
+final class MappedFileReader implements AutoCloseable {
+    private static final long WINDOW_SIZE = 256L << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    MappedFileReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+    }
+
+    long position() {
+        return window != null ? windowStart + window.position() : 0L;
+    }
+
+    long remaining() {
+        return size - position();
+    }
+
+    int readInt() throws IOException {
+        ensure(4);
+        return window.getInt();
+    }
+
+    long readLong() throws IOException {
+        ensure(8);
+        return window.getLong();
+    }
+
+    /** The next {@code length} bytes, valid until the following read. */
+    ByteBuffer read(int length) throws IOException {
+        ensure(length);
+        ByteBuffer slice = window.slice(window.position(), length);
+        window.position(window.position() + length);
+        return slice;
+    }
+
+    /**
+     * The mapped window itself, positioned at the next {@code length} bytes.
+     * Unlike {@link #read} nothing is allocated, which matters when loading
+     * millions of records; the caller must leave the window's position at
+     * the end of those bytes.
+     */
+    ByteBuffer readInPlace(int length) throws IOException {
+        ensure(length);
+        return window;
+    }
+
+    private void ensure(int length) throws IOException {
+        if (length < 0 || length > remaining()) {
+            throw new EOFException("Record of " + length + " bytes runs past the end of the file");
+        }
+        if (window == null || window.remaining() < length) {
+            long start = position();
+            windowStart = start;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(Math.max(WINDOW_SIZE, length), size - start));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
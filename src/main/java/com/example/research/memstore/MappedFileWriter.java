@@ -0,0 +1,68 @@
+package com.example.research.memstore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential writer into a memory-mapped file, mapping a window at a time and
+ * growing the file as it goes. Closing forces the data to disk and trims the
+ * file to what was written.
+ */
+final class MappedFileWriter implements AutoCloseable {
+    private static final long WINDOW_SIZE = 256L << 20;
+
+    private final FileChannel channel;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    MappedFileWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    long position() {
+        return window != null ? windowStart + window.position() : 0L;
+    }
+
+    void writeInt(int value) throws IOException {
+        ensure(4);
+        window.putInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        ensure(8);
+        window.putLong(value);
+    }
+
+    void write(ByteBuffer bytes) throws IOException {
+        ensure(bytes.remaining());
+        window.put(bytes);
+    }
+
+    private void ensure(int length) throws IOException {
+        if (window == null || window.remaining() < length) {
+            long start = position();
+            if (window != null) {
+                window.force();
+            }
+            windowStart = start;
+            window = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.max(WINDOW_SIZE, length));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        long length = position();
+        if (window != null) {
+            window.force();
+        }
+        window = null;
+        channel.truncate(length);
+        channel.force(true);
+        channel.close();
+    }
+}
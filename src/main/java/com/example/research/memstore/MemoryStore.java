@@ -0,0 +1,816 @@
+package com.example.research.memstore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.research.model.ProjectStatus;
+
+/**
+ * In-memory tables for users, projects and status history, with secondary
+ * indexes on project owner, status and deadline.
+ *
+ * Reads are lock-free against the concurrent maps. Writes are serialized:
+ * each is appended to the log, then applied to the maps and indexes. Rows
+ * are immutable, so an index lookup can briefly return a row that a
+ * concurrent write just moved; every query re-checks its predicate on the row.
+ *
+ * On disk, snapshot-N holds the state before log-N. A snapshot rolls the log
+ * to a new generation, copies the row references under the write lock and
+ * writes them out after releasing it. Recovery loads the newest snapshot and
+ * replays the logs from its generation on.
+ */
+public class MemoryStore implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(MemoryStore.class);
+
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final Pattern LOG_FILE = Pattern.compile("log-(\\d+)\\.bin");
+
+    private final MemoryStoreProperties properties;
+    private final Path directory;
+
+    // Tables are replaced with pre-sized ones while a snapshot loads, before
+    // the store is handed out; after open() only their contents change
+    private Map<Long, UserRow> users = new ConcurrentHashMap<>();
+    private Map<String, Long> userIdsByUsername = new ConcurrentHashMap<>();
+    private Map<String, Long> userIdsByEmail = new ConcurrentHashMap<>();
+
+    private Map<Long, ProjectRow> projects = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> projectIdsByOwner = new ConcurrentHashMap<>();
+    private final Map<ProjectStatus, Set<Long>> projectIdsByStatus = new ConcurrentHashMap<>();
+    private final NavigableMap<LocalDate, Set<Long>> projectIdsByDeadline = new ConcurrentSkipListMap<>();
+    private final NavigableSet<Long> projectIdsWithDeadline = new ConcurrentSkipListSet<>();
+
+    private Map<Long, HistoryRow> history = new ConcurrentHashMap<>();
+    // Most projects have a handful of status changes, so each project's ids are
+    // a sorted array, replaced whole on every write
+    private final Map<Long, long[]> historyIdsByProject = new ConcurrentHashMap<>();
+    private final NavigableSet<HistoryRow> historyByChangedAt = new ConcurrentSkipListSet<>(
+            Comparator.comparing(HistoryRow::changedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparingLong(HistoryRow::id));
+
+    private final AtomicLong lastUserId = new AtomicLong();
+    private final AtomicLong lastProjectId = new AtomicLong();
+    private final AtomicLong lastHistoryId = new AtomicLong();
+
+    private final Object writeLock = new Object();
+    private final Object snapshotLock = new Object();
+    private final RecordWriter writeBuffer = new RecordWriter(); // guarded by writeLock
+    private StoreLog log; // guarded by writeLock
+    private long generation; // guarded by writeLock
+
+    public MemoryStore(MemoryStoreProperties properties) {
+        this.properties = properties;
+        this.directory = Path.of(properties.getDirectory());
+    }
+
+    /** Loads the newest snapshot and replays the logs written since. */
+    public void open() throws IOException {
+        if (!properties.isDurable()) {
+            logger.info("Memory store is not durable; nothing is written to disk");
+            return;
+        }
+        Files.createDirectories(directory);
+        long start = System.nanoTime();
+
+        long snapshotGeneration = -1;
+        TreeMap<Long, Path> snapshots = generations(SNAPSHOT_FILE);
+        if (!snapshots.isEmpty()) {
+            snapshotGeneration = snapshots.lastKey();
+            SnapshotFile.read(snapshots.lastEntry().getValue(), new SnapshotLoader());
+            buildIndexes();
+        }
+
+        long entries = 0;
+        long lastLogGeneration = Math.max(snapshotGeneration, 0);
+        long lastLogLength = 0;
+        for (Map.Entry<Long, Path> logFile : generations(LOG_FILE).tailMap(snapshotGeneration, true).entrySet()) {
+            long[] count = {0};
+            lastLogLength = StoreLog.replay(logFile.getValue(), (kind, op, record) -> {
+                replay(kind, op, record);
+                count[0]++;
+            });
+            lastLogGeneration = logFile.getKey();
+            entries += count[0];
+        }
+
+        synchronized (writeLock) {
+            generation = lastLogGeneration;
+            log = StoreLog.open(logPath(generation), lastLogLength, properties.isFsyncOnWrite());
+        }
+        logger.info("Memory store recovered {} users, {} projects and {} status changes in {} ms "
+                + "(snapshot {}, {} log entries replayed)",
+                users.size(), projects.size(), history.size(), (System.nanoTime() - start) / 1_000_000,
+                snapshotGeneration >= 0 ? snapshotGeneration : "none", entries);
+    }
+
+    /**
+     * Writes a snapshot if anything changed since the last one, then deletes
+     * the snapshots and logs it replaces. Returns whether one was written.
+     */
+    public boolean snapshot() throws IOException {
+        if (!properties.isDurable()) {
+            return false;
+        }
+        synchronized (snapshotLock) {
+            List<UserRow> userRows;
+            List<ProjectRow> projectRows;
+            List<HistoryRow> historyRows;
+            long snapshotGeneration;
+            synchronized (writeLock) {
+                if (log == null || log.size() == 0) {
+                    return false;
+                }
+                userRows = new ArrayList<>(users.values());
+                projectRows = new ArrayList<>(projects.values());
+                historyRows = new ArrayList<>(history.values());
+                snapshotGeneration = generation + 1;
+                log.close();
+                log = StoreLog.open(logPath(snapshotGeneration), 0L, properties.isFsyncOnWrite());
+                generation = snapshotGeneration;
+            }
+
+            long start = System.nanoTime();
+            SnapshotFile.write(directory.resolve("snapshot-" + snapshotGeneration + ".bin"),
+                    userRows, projectRows, historyRows);
+            for (Path old : generations(SNAPSHOT_FILE).headMap(snapshotGeneration).values()) {
+                Files.deleteIfExists(old);
+            }
+            for (Path old : generations(LOG_FILE).headMap(snapshotGeneration).values()) {
+                Files.deleteIfExists(old);
+            }
+            logger.info("Memory store snapshot {} written in {} ms ({} projects)",
+                    snapshotGeneration, (System.nanoTime() - start) / 1_000_000, projectRows.size());
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        snapshot();
+        synchronized (writeLock) {
+            if (log != null) {
+                log.close();
+                log = null;
+            }
+        }
+    }
+
+    // Users
+
+    public long nextUserId() {
+        return lastUserId.incrementAndGet();
+    }
+
+    Optional<UserRow> user(long id) {
+        return Optional.ofNullable(users.get(id));
+    }
+
+    Optional<UserRow> userByUsername(String username) {
+        return username == null ? Optional.empty() : lookup(userIdsByUsername.get(username), users)
+                .filter(user -> username.equals(user.username()));
+    }
+
+    Optional<UserRow> userByEmail(String email) {
+        return email == null ? Optional.empty() : lookup(userIdsByEmail.get(email), users)
+                .filter(user -> email.equals(user.email()));
+    }
+
+    List<UserRow> users() {
+        return sortedById(users.values().stream(), UserRow::id);
+    }
+
+    long userCount() {
+        return users.size();
+    }
+
+    void putUser(UserRow user) {
+        synchronized (writeLock) {
+            checkUnique(userIdsByUsername, user.username(), user.id(), "username");
+            checkUnique(userIdsByEmail, user.email(), user.id(), "email");
+            append(StoreLog.KIND_USER, StoreLog.OP_PUT, out -> RecordCodec.writeUser(out, user));
+            applyUser(user);
+        }
+    }
+
+    void deleteUser(long id) {
+        synchronized (writeLock) {
+            if (!projectIdsByOwner.getOrDefault(id, Set.of()).isEmpty()) {
+                throw new DataIntegrityViolationException("User " + id + " still owns projects");
+            }
+            if (!users.containsKey(id)) {
+                return;
+            }
+            append(StoreLog.KIND_USER, StoreLog.OP_DELETE, out -> out.putLong(id));
+            applyUserDelete(id);
+        }
+    }
+
+    // Projects
+
+    public long nextProjectId() {
+        return lastProjectId.incrementAndGet();
+    }
+
+    Optional<ProjectRow> project(long id) {
+        return Optional.ofNullable(projects.get(id));
+    }
+
+    List<ProjectRow> projects() {
+        return sortedById(projects.values().stream(), ProjectRow::id);
+    }
+
+    long projectCount() {
+        return projects.size();
+    }
+
+    List<ProjectRow> projectsByOwner(long ownerId) {
+        return fromIndex(projectIdsByOwner.get(ownerId), project -> Objects.equals(project.ownerId(), ownerId));
+    }
+
+    List<ProjectRow> projectsByStatus(ProjectStatus status) {
+        return fromIndex(status != null ? projectIdsByStatus.get(status) : null, project -> project.status() == status);
+    }
+
+    long countProjectsByOwner(long ownerId) {
+        return projectsByOwner(ownerId).size();
+    }
+
+    long countProjectsByStatus(ProjectStatus status) {
+        Set<Long> ids = status != null ? projectIdsByStatus.get(status) : null;
+        return ids != null ? ids.size() : 0L;
+    }
+
+    /** Projects with a deadline, soonest first. */
+    List<ProjectRow> projectsByDeadline() {
+        return projectsByDeadline(projectIdsByDeadline);
+    }
+
+    /** Projects with a deadline on or before {@code horizon}, soonest first. */
+    List<ProjectRow> projectsByDeadline(LocalDate horizon) {
+        return projectsByDeadline(projectIdsByDeadline.headMap(horizon, true));
+    }
+
+    private List<ProjectRow> projectsByDeadline(Map<LocalDate, Set<Long>> index) {
+        List<ProjectRow> result = new ArrayList<>();
+        for (Map.Entry<LocalDate, Set<Long>> entry : index.entrySet()) {
+            LocalDate deadline = entry.getKey();
+            result.addAll(fromIndex(entry.getValue(), project -> deadline.equals(project.deadline())));
+        }
+        return result;
+    }
+
+    /** Projects with a deadline in id order, starting after {@code afterId}. */
+    List<ProjectRow> projectsWithDeadlineAfter(long afterId, long skip, int limit) {
+        List<ProjectRow> result = new ArrayList<>();
+        Iterator<Long> ids = projectIdsWithDeadline.tailSet(afterId, false).iterator();
+        while (ids.hasNext() && result.size() < limit) {
+            ProjectRow project = projects.get(ids.next());
+            if (project != null && project.deadline() != null) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    result.add(project);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Saves a project together with status changes recorded on it, the way
+     * the JPA cascade does.
+     */
+    void putProject(ProjectRow project, Collection<HistoryRow> newHistory) {
+        synchronized (writeLock) {
+            // One entry, so a torn write can't keep the project and lose its history
+            if (newHistory.isEmpty()) {
+                append(StoreLog.KIND_PROJECT, StoreLog.OP_PUT, out -> RecordCodec.writeProject(out, project));
+            } else {
+                append(StoreLog.KIND_PROJECT, StoreLog.OP_PUT_WITH_HISTORY, out -> {
+                    RecordCodec.writeProject(out, project);
+                    out.putInt(newHistory.size());
+                    for (HistoryRow row : newHistory) {
+                        RecordCodec.writeHistory(out, row);
+                    }
+                });
+            }
+            applyProject(project);
+            for (HistoryRow row : newHistory) {
+                applyHistory(row);
+            }
+        }
+    }
+
+    int updateProjects(Collection<Long> ids, UnaryOperator<ProjectRow> update) {
+        int updated = 0;
+        synchronized (writeLock) {
+            for (Long id : ids) {
+                ProjectRow current = projects.get(id);
+                if (current == null) {
+                    continue;
+                }
+                ProjectRow changed = update.apply(current);
+                append(StoreLog.KIND_PROJECT, StoreLog.OP_PUT, out -> RecordCodec.writeProject(out, changed));
+                applyProject(changed);
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    /** Deletes the project and its status history. */
+    void deleteProject(long id) {
+        synchronized (writeLock) {
+            if (!projects.containsKey(id)) {
+                return;
+            }
+            append(StoreLog.KIND_PROJECT, StoreLog.OP_DELETE, out -> out.putLong(id));
+            applyProjectDelete(id);
+        }
+    }
+
+    // Status history
+
+    public long nextHistoryId() {
+        return lastHistoryId.incrementAndGet();
+    }
+
+    Optional<HistoryRow> historyRow(long id) {
+        return Optional.ofNullable(history.get(id));
+    }
+
+    List<HistoryRow> history() {
+        return sortedById(history.values().stream(), HistoryRow::id);
+    }
+
+    long historyCount() {
+        return history.size();
+    }
+
+    List<HistoryRow> historyForProject(long projectId) {
+        long[] ids = historyIdsByProject.get(projectId);
+        if (ids == null) {
+            return List.of();
+        }
+        List<HistoryRow> rows = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            HistoryRow row = history.get(id);
+            if (row != null && row.projectId() == projectId) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /** The most recent status changes, newest first. */
+    List<HistoryRow> latestHistory(int limit) {
+        List<HistoryRow> result = new ArrayList<>(limit);
+        Iterator<HistoryRow> rows = historyByChangedAt.descendingIterator();
+        while (rows.hasNext() && result.size() < limit) {
+            HistoryRow row = rows.next();
+            if (history.get(row.id()) == row) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    void putHistory(HistoryRow row) {
+        synchronized (writeLock) {
+            if (!projects.containsKey(row.projectId())) {
+                throw new DataIntegrityViolationException("Project " + row.projectId() + " does not exist");
+            }
+            append(StoreLog.KIND_HISTORY, StoreLog.OP_PUT, out -> RecordCodec.writeHistory(out, row));
+            applyHistory(row);
+        }
+    }
+
+    void deleteHistory(long id) {
+        synchronized (writeLock) {
+            if (!history.containsKey(id)) {
+                return;
+            }
+            append(StoreLog.KIND_HISTORY, StoreLog.OP_DELETE, out -> out.putLong(id));
+            applyHistoryDelete(id);
+        }
+    }
+
+    // Applying changes; called with the write lock held, or single-threaded during recovery
+
+    private void replay(byte kind, byte op, ByteBuffer record) {
+        if (op == StoreLog.OP_DELETE) {
+            long id = record.getLong();
+            switch (kind) {
+                case StoreLog.KIND_USER -> applyUserDelete(id);
+                case StoreLog.KIND_PROJECT -> applyProjectDelete(id);
+                case StoreLog.KIND_HISTORY -> applyHistoryDelete(id);
+                default -> throw new IllegalStateException("Unknown log record kind " + kind);
+            }
+            return;
+        }
+        if (op == StoreLog.OP_PUT_WITH_HISTORY) {
+            applyProject(RecordCodec.readProject(record));
+            for (int count = record.getInt(); count > 0; count--) {
+                applyHistory(RecordCodec.readHistory(record));
+            }
+            return;
+        }
+        switch (kind) {
+            case StoreLog.KIND_USER -> applyUser(RecordCodec.readUser(record));
+            case StoreLog.KIND_PROJECT -> applyProject(RecordCodec.readProject(record));
+            case StoreLog.KIND_HISTORY -> applyHistory(RecordCodec.readHistory(record));
+            default -> throw new IllegalStateException("Unknown log record kind " + kind);
+        }
+    }
+
+    private void applyUser(UserRow user) {
+        UserRow previous = users.put(user.id(), user);
+        if (user.username() != null) {
+            userIdsByUsername.put(user.username(), user.id());
+        }
+        if (user.email() != null) {
+            userIdsByEmail.put(user.email(), user.id());
+        }
+        if (previous != null) {
+            if (previous.username() != null && !previous.username().equals(user.username())) {
+                userIdsByUsername.remove(previous.username(), previous.id());
+            }
+            if (previous.email() != null && !previous.email().equals(user.email())) {
+                userIdsByEmail.remove(previous.email(), previous.id());
+            }
+        }
+        lastUserId.accumulateAndGet(user.id(), Math::max);
+    }
+
+    private void applyUserDelete(long id) {
+        UserRow previous = users.remove(id);
+        if (previous != null) {
+            if (previous.username() != null) {
+                userIdsByUsername.remove(previous.username(), id);
+            }
+            if (previous.email() != null) {
+                userIdsByEmail.remove(previous.email(), id);
+            }
+        }
+    }
+
+    private void applyProject(ProjectRow project) {
+        ProjectRow previous = projects.put(project.id(), project);
+        long id = project.id();
+        if (project.ownerId() != null) {
+            addToIndex(projectIdsByOwner, project.ownerId(), id);
+        }
+        if (project.status() != null) {
+            addToIndex(projectIdsByStatus, project.status(), id);
+        }
+        if (project.deadline() != null) {
+            addToIndex(projectIdsByDeadline, project.deadline(), id);
+            projectIdsWithDeadline.add(id);
+        }
+        if (previous != null) {
+            if (previous.ownerId() != null && !previous.ownerId().equals(project.ownerId())) {
+                removeFromIndex(projectIdsByOwner, previous.ownerId(), id);
+            }
+            if (previous.status() != null && previous.status() != project.status()) {
+                removeFromIndex(projectIdsByStatus, previous.status(), id);
+            }
+            if (previous.deadline() != null && !previous.deadline().equals(project.deadline())) {
+                removeFromIndex(projectIdsByDeadline, previous.deadline(), id);
+                if (project.deadline() == null) {
+                    projectIdsWithDeadline.remove(id);
+                }
+            }
+        }
+        lastProjectId.accumulateAndGet(id, Math::max);
+    }
+
+    private void applyProjectDelete(long id) {
+        ProjectRow previous = projects.remove(id);
+        if (previous != null) {
+            if (previous.ownerId() != null) {
+                removeFromIndex(projectIdsByOwner, previous.ownerId(), id);
+            }
+            if (previous.status() != null) {
+                removeFromIndex(projectIdsByStatus, previous.status(), id);
+            }
+            if (previous.deadline() != null) {
+                removeFromIndex(projectIdsByDeadline, previous.deadline(), id);
+                projectIdsWithDeadline.remove(id);
+            }
+        }
+        long[] historyIds = historyIdsByProject.get(id);
+        if (historyIds != null) {
+            for (long historyId : historyIds) {
+                applyHistoryDelete(historyId);
+            }
+        }
+    }
+
+    private void applyHistory(HistoryRow row) {
+        HistoryRow previous = history.put(row.id(), row);
+        addHistoryId(row.projectId(), row.id());
+        historyByChangedAt.add(row);
+        if (previous != null) {
+            historyByChangedAt.remove(previous);
+            if (previous.projectId() != row.projectId()) {
+                removeHistoryId(previous.projectId(), row.id());
+            }
+        }
+        lastHistoryId.accumulateAndGet(row.id(), Math::max);
+    }
+
+    private void applyHistoryDelete(long id) {
+        HistoryRow previous = history.remove(id);
+        if (previous != null) {
+            historyByChangedAt.remove(previous);
+            removeHistoryId(previous.projectId(), id);
+        }
+    }
+
+    // Bulk loading. A snapshot holds each row once, so rows go straight into
+    // the primary tables and the indexes are built afterwards in one pass,
+    // with every index set created at its final size.
+
+    private class SnapshotLoader implements SnapshotFile.Loader {
+        @Override
+        public void sizes(long userCount, long projectCount, long historyCount) {
+            users = new ConcurrentHashMap<>(capacity(userCount));
+            userIdsByUsername = new ConcurrentHashMap<>(capacity(userCount));
+            userIdsByEmail = new ConcurrentHashMap<>(capacity(userCount));
+            projects = new ConcurrentHashMap<>(capacity(projectCount));
+            history = new ConcurrentHashMap<>(capacity(historyCount));
+        }
+
+        @Override
+        public void user(UserRow user) {
+            users.put(user.id(), user);
+        }
+
+        @Override
+        public void project(ProjectRow project) {
+            projects.put(project.id(), project);
+        }
+
+        @Override
+        public void history(HistoryRow row) {
+            history.put(row.id(), row);
+        }
+    }
+
+    /**
+     * Builds each index from the loaded tables. They are independent, so in
+     * parallel when there are cores to spare; on a single core interleaving
+     * them is measurably slower than building one after another.
+     */
+    private void buildIndexes() {
+        Stream<Runnable> builds = Stream.of(this::buildUserIndexes, this::buildOwnerIndex, this::buildStatusIndex,
+                this::buildDeadlineIndexes, this::buildHistoryIndexes);
+        if (Runtime.getRuntime().availableProcessors() > 1) {
+            builds = builds.parallel();
+        }
+        builds.forEach(Runnable::run);
+    }
+
+    private void buildUserIndexes() {
+        long maxId = 0;
+        for (UserRow user : users.values()) {
+            if (user.username() != null) {
+                userIdsByUsername.put(user.username(), user.id());
+            }
+            if (user.email() != null) {
+                userIdsByEmail.put(user.email(), user.id());
+            }
+            maxId = Math.max(maxId, user.id());
+        }
+        lastUserId.accumulateAndGet(maxId, Math::max);
+    }
+
+    private void buildOwnerIndex() {
+        Map<Long, int[]> sizes = new HashMap<>();
+        for (ProjectRow project : projects.values()) {
+            count(sizes, project.ownerId());
+        }
+        sizes.forEach((owner, size) -> projectIdsByOwner.put(owner, ConcurrentHashMap.newKeySet(size[0])));
+        long maxId = 0;
+        for (Map.Entry<Long, ProjectRow> entry : projects.entrySet()) {
+            Long ownerId = entry.getValue().ownerId();
+            if (ownerId != null) {
+                projectIdsByOwner.get(ownerId).add(entry.getKey());
+            }
+            maxId = Math.max(maxId, entry.getKey());
+        }
+        lastProjectId.accumulateAndGet(maxId, Math::max);
+    }
+
+    private void buildStatusIndex() {
+        Map<ProjectStatus, int[]> sizes = new EnumMap<>(ProjectStatus.class);
+        for (ProjectRow project : projects.values()) {
+            count(sizes, project.status());
+        }
+        sizes.forEach((status, size) -> projectIdsByStatus.put(status, ConcurrentHashMap.newKeySet(size[0])));
+        for (Map.Entry<Long, ProjectRow> entry : projects.entrySet()) {
+            ProjectStatus status = entry.getValue().status();
+            if (status != null) {
+                projectIdsByStatus.get(status).add(entry.getKey());
+            }
+        }
+    }
+
+    private void buildDeadlineIndexes() {
+        Map<LocalDate, int[]> sizes = new HashMap<>();
+        for (ProjectRow project : projects.values()) {
+            count(sizes, project.deadline());
+        }
+        sizes.forEach((deadline, size) -> projectIdsByDeadline.put(deadline, ConcurrentHashMap.newKeySet(size[0])));
+        long[] withDeadline = new long[sizes.values().stream().mapToInt(size -> size[0]).sum()];
+        int withDeadlineCount = 0;
+        for (Map.Entry<Long, ProjectRow> entry : projects.entrySet()) {
+            LocalDate deadline = entry.getValue().deadline();
+            if (deadline != null) {
+                projectIdsByDeadline.get(deadline).add(entry.getKey());
+                withDeadline[withDeadlineCount++] = entry.getKey();
+            }
+        }
+        // Ascending inserts keep the skip list appending at its tail
+        Arrays.sort(withDeadline);
+        for (long id : withDeadline) {
+            projectIdsWithDeadline.add(id);
+        }
+    }
+
+    private void buildHistoryIndexes() {
+        long maxId = 0;
+        for (HistoryRow row : history.values()) {
+            // Arrays are grown one id at a time; a project rarely has more than a few
+            historyIdsByProject.merge(row.projectId(), new long[] {row.id()}, MemoryStore::concat);
+            historyByChangedAt.add(row);
+            maxId = Math.max(maxId, row.id());
+        }
+        for (long[] ids : historyIdsByProject.values()) {
+            if (ids.length > 1) {
+                Arrays.sort(ids);
+            }
+        }
+        lastHistoryId.accumulateAndGet(maxId, Math::max);
+    }
+
+    private static long[] concat(long[] first, long[] second) {
+        long[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    private static <K> void count(Map<K, int[]> sizes, K key) {
+        if (key != null) {
+            sizes.computeIfAbsent(key, k -> new int[1])[0]++;
+        }
+    }
+
+    private static int capacity(long expected) {
+        return (int) Math.min(expected, Integer.MAX_VALUE);
+    }
+
+    // Helpers
+
+    private interface RecordEncoder {
+        void encode(RecordWriter out);
+    }
+
+    private void append(byte kind, byte op, RecordEncoder encoder) {
+        if (log == null) {
+            if (properties.isDurable()) {
+                throw new DataAccessResourceFailureException("Memory store is not open");
+            }
+            return;
+        }
+        encoder.encode(writeBuffer.clear());
+        try {
+            log.append(kind, op, writeBuffer);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Could not append to the memory store log", e);
+        }
+    }
+
+    private static void checkUnique(Map<String, Long> index, String value, long id, String field) {
+        Long existing = value != null ? index.get(value) : null;
+        if (existing != null && existing != id) {
+            throw new DataIntegrityViolationException("Duplicate " + field + ": " + value);
+        }
+    }
+
+    private List<ProjectRow> fromIndex(Set<Long> ids, Predicate<ProjectRow> stillMatches) {
+        if (ids == null) {
+            return List.of();
+        }
+        return sortedById(ids.stream().map(projects::get)
+                .filter(project -> project != null && stillMatches.test(project)), ProjectRow::id);
+    }
+
+    private void addHistoryId(long projectId, long id) {
+        historyIdsByProject.compute(projectId, (key, ids) -> {
+            if (ids == null) {
+                return new long[] {id};
+            }
+            int at = Arrays.binarySearch(ids, id);
+            if (at >= 0) {
+                return ids;
+            }
+            int insert = -at - 1;
+            long[] grown = new long[ids.length + 1];
+            System.arraycopy(ids, 0, grown, 0, insert);
+            grown[insert] = id;
+            System.arraycopy(ids, insert, grown, insert + 1, ids.length - insert);
+            return grown;
+        });
+    }
+
+    private void removeHistoryId(long projectId, long id) {
+        historyIdsByProject.computeIfPresent(projectId, (key, ids) -> {
+            int at = Arrays.binarySearch(ids, id);
+            if (at < 0) {
+                return ids;
+            }
+            if (ids.length == 1) {
+                return null;
+            }
+            long[] shrunk = new long[ids.length - 1];
+            System.arraycopy(ids, 0, shrunk, 0, at);
+            System.arraycopy(ids, at + 1, shrunk, at, ids.length - at - 1);
+            return shrunk;
+        });
+    }
+
+    private static <K> void addToIndex(Map<K, Set<Long>> index, K key, long id) {
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<Long>> index, K key, long id) {
+        Set<Long> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(key, ids);
+            }
+        }
+    }
+
+    private static <T> Optional<T> lookup(Long id, Map<Long, T> table) {
+        return id != null ? Optional.ofNullable(table.get(id)) : Optional.empty();
+    }
+
+    private static <T> List<T> sortedById(Stream<T> rows, ToLongFunction<T> id) {
+        return rows.sorted(Comparator.comparingLong(id)).collect(Collectors.toList());
+    }
+
+    private TreeMap<Long, Path> generations(Pattern pattern) throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing.forEach(file -> {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    files.put(Long.parseLong(matcher.group(1)), file);
+                }
+            });
+        }
+        return files;
+    }
+
+    private Path logPath(long logGeneration) {
+        return directory.resolve("log-" + logGeneration + ".bin");
+    }
+}
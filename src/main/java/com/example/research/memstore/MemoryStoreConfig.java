@@ -0,0 +1,27 @@
+package com.example.research.memstore;
+
+import java.io.IOException;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * The memory-store profile keeps users, projects and status history in
+ * {@link MemoryStore} instead of the database; the in-memory repositories
+ * take precedence over the JPA ones. Everything else stays relational, on
+ * whatever datasource the profile configures.
+ */
+@Configuration
+@Profile("memory-store")
+@EnableConfigurationProperties(MemoryStoreProperties.class)
+public class MemoryStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public MemoryStore memoryStore(MemoryStoreProperties properties) throws IOException {
+        MemoryStore store = new MemoryStore(properties);
+        store.open();
+        return store;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.research.memstore;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.memory-store")
+public class MemoryStoreProperties {
+    private String directory = "data/memory-store";
+    // Off for throwaway stores such as integration tests: nothing touches disk
+    private boolean durable = true;
+    // Force the log to disk on every write; otherwise a crash can lose the
+    // writes the OS hadn't flushed yet
+    private boolean fsyncOnWrite = false;
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public boolean isDurable() {
+        return durable;
+    }
+
+    public void setDurable(boolean durable) {
+        this.durable = durable;
+    }
+
+    public boolean isFsyncOnWrite() {
+        return fsyncOnWrite;
+    }
+
+    public void setFsyncOnWrite(boolean fsyncOnWrite) {
+        this.fsyncOnWrite = fsyncOnWrite;
+    }
+
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public void setSnapshotInterval(Duration snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.research.memstore;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snapshots the memory store periodically so recovery replays at most one
+ * interval of log. A final snapshot is taken when the store closes.
+ */
+@Component
+@Profile("memory-store")
+public class MemoryStoreSnapshotter {
+    private static final Logger logger = LoggerFactory.getLogger(MemoryStoreSnapshotter.class);
+
+    @Autowired
+    private MemoryStore store;
+
+    @Scheduled(fixedDelayString = "${app.memory-store.snapshot-interval:PT5M}",
+            initialDelayString = "${app.memory-store.snapshot-interval:PT5M}")
+    public void snapshot() {
+        try {
+            store.snapshot();
+        } catch (IOException e) {
+            logger.error("Memory store snapshot failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.research.memstore;
+
+import java.time.LocalDate;
+
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.ProjectStatus;
+
+/**
+ * Stored form of a project. Rows are immutable, so readers and snapshots can
+ * hold on to them while writers replace them.
+ */
+record ProjectRow(
+        long id,
+        String title,
+        String summary,
+        ProjectStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long ownerId,
+        LocalDate createdAt,
+        LocalDate updatedAt,
+        LocalDate deadline,
+        DeadlineStatus deadlineStatus,
+        Boolean reminderSent) {
+
+    ProjectRow withReminderSent(DeadlineStatus newDeadlineStatus) {
+        return new ProjectRow(id, title, summary, status, startDate, endDate, ownerId,
+                createdAt, updatedAt, deadline, newDeadlineStatus, true);
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.research.memstore;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.ProjectStatus;
+
+/**
+ * Binary encoding of the stored rows, shared by the log and snapshots. Field
+ * order is the format; append new fields at the end and bump
+ * {@link SnapshotFile#VERSION}.
+ */
+final class RecordCodec {
+    // Dates repeat across rows (created today, the same deadlines), so decoded
+    // dates are shared through a small direct-mapped cache. LocalDate is
+    // immutable, so racing writers only cost a cache miss.
+    private static final int DATE_CACHE_SIZE = 4096;
+    private static final LocalDate[] DATE_CACHE = new LocalDate[DATE_CACHE_SIZE];
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    // Stored enum names are matched against these bytes rather than decoded
+    private static final ClassValue<EnumNames> ENUM_NAMES = new ClassValue<>() {
+        @Override
+        protected EnumNames computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            byte[][] names = new byte[constants.length][];
+            for (int i = 0; i < constants.length; i++) {
+                names[i] = ((Enum<?>) constants[i]).name().getBytes(StandardCharsets.UTF_8);
+            }
+            return new EnumNames(constants, names);
+        }
+    };
+
+    // Strings are copied out of the mapped file through this rather than a
+    // fresh array each, which recovery would otherwise allocate per field
+    private static final ThreadLocal<byte[]> STRING_BUFFER = ThreadLocal.withInitial(() -> new byte[256]);
+
+    private RecordCodec() {
+    }
+
+    static void writeUser(RecordWriter out, UserRow user) {
+        out.putLong(user.id());
+        out.putString(user.username());
+        out.putString(user.email());
+        out.putString(user.password());
+        out.putString(user.firstName());
+        out.putString(user.lastName());
+        out.putString(user.title());
+        out.putString(user.department());
+        out.putString(user.institution());
+        out.putDateTime(user.createdAt());
+        out.putDateTime(user.updatedAt());
+    }
+
+    static UserRow readUser(ByteBuffer in) {
+        return new UserRow(
+                in.getLong(),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readDateTime(in),
+                readDateTime(in));
+    }
+
+    static void writeProject(RecordWriter out, ProjectRow project) {
+        out.putLong(project.id());
+        out.putString(project.title());
+        out.putString(project.summary());
+        out.putEnum(project.status());
+        out.putDate(project.startDate());
+        out.putDate(project.endDate());
+        out.putNullableLong(project.ownerId());
+        out.putDate(project.createdAt());
+        out.putDate(project.updatedAt());
+        out.putDate(project.deadline());
+        out.putEnum(project.deadlineStatus());
+        out.putBoolean(project.reminderSent());
+    }
+
+    static ProjectRow readProject(ByteBuffer in) {
+        return new ProjectRow(
+                in.getLong(),
+                readString(in),
+                readString(in),
+                readEnum(in, ProjectStatus.class),
+                readDate(in),
+                readDate(in),
+                readNullableLong(in),
+                readDate(in),
+                readDate(in),
+                readDate(in),
+                readEnum(in, DeadlineStatus.class),
+                readBoolean(in));
+    }
+
+    static void writeHistory(RecordWriter out, HistoryRow history) {
+        out.putLong(history.id());
+        out.putLong(history.projectId());
+        out.putEnum(history.oldStatus());
+        out.putEnum(history.newStatus());
+        out.putDateTime(history.changedAt());
+        out.putNullableLong(history.changedById());
+    }
+
+    static HistoryRow readHistory(ByteBuffer in) {
+        return new HistoryRow(
+                in.getLong(),
+                in.getLong(),
+                readEnum(in, ProjectStatus.class),
+                readEnum(in, ProjectStatus.class),
+                readDateTime(in),
+                readNullableLong(in));
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = STRING_BUFFER.get();
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+            STRING_BUFFER.set(bytes);
+        }
+        in.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static <E extends Enum<E>> E readEnum(ByteBuffer in, Class<E> type) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        EnumNames enumNames = ENUM_NAMES.get(type);
+        int start = in.position();
+        for (int ordinal = 0; ordinal < enumNames.names().length; ordinal++) {
+            if (matches(in, start, enumNames.names()[ordinal], length)) {
+                in.position(start + length);
+                return type.cast(enumNames.constants()[ordinal]);
+            }
+        }
+        byte[] unknown = new byte[length];
+        in.get(unknown);
+        return Enum.valueOf(type, new String(unknown, StandardCharsets.UTF_8));
+    }
+
+    private record EnumNames(Object[] constants, byte[][] names) {
+    }
+
+    private static boolean matches(ByteBuffer in, int start, byte[] name, int length) {
+        if (name.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (in.get(start + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Long readNullableLong(ByteBuffer in) {
+        long value = in.getLong();
+        return value != RecordWriter.NULL_LONG ? value : null;
+    }
+
+    private static Boolean readBoolean(ByteBuffer in) {
+        byte value = in.get();
+        return value < 0 ? null : value == 1;
+    }
+
+    private static LocalDate readDate(ByteBuffer in) {
+        long epochDay = in.getLong();
+        return epochDay != RecordWriter.NULL_LONG ? date(epochDay) : null;
+    }
+
+    private static LocalDate date(long epochDay) {
+        int slot = (int) (epochDay & (DATE_CACHE_SIZE - 1));
+        LocalDate cached = DATE_CACHE[slot];
+        if (cached == null || cached.toEpochDay() != epochDay) {
+            cached = LocalDate.ofEpochDay(epochDay);
+            DATE_CACHE[slot] = cached;
+        }
+        return cached;
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) {
+        long epochSecond = in.getLong();
+        int nano = in.getInt();
+        if (epochSecond == RecordWriter.NULL_LONG) {
+            return null;
+        }
+        // The date part goes through the cache too
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        return LocalDateTime.of(date(epochDay), LocalTime.ofNanoOfDay(secondOfDay * 1_000_000_000L + nano));
+    }
+}
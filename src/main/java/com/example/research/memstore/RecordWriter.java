@@ -0,0 +1,96 @@
+package com.example.research.memstore;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Growable buffer that records are encoded into before they are appended to
+ * the log or copied into a snapshot. Not thread-safe.
+ */
+final class RecordWriter {
+    static final long NULL_LONG = Long.MIN_VALUE;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+    RecordWriter clear() {
+        buffer.clear();
+        return this;
+    }
+
+    /** The bytes written since the last clear, ready to be read. */
+    ByteBuffer contents() {
+        ByteBuffer view = buffer.duplicate();
+        view.flip();
+        return view;
+    }
+
+    int size() {
+        return buffer.position();
+    }
+
+    void putByte(int value) {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    void putInt(int value) {
+        ensure(4);
+        buffer.putInt(value);
+    }
+
+    void putLong(long value) {
+        ensure(8);
+        buffer.putLong(value);
+    }
+
+    void putNullableLong(Long value) {
+        putLong(value != null ? value : NULL_LONG);
+    }
+
+    void putBoolean(Boolean value) {
+        putByte(value == null ? -1 : value ? 1 : 0);
+    }
+
+    void putString(String value) {
+        if (value == null) {
+            putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        ensure(bytes.length);
+        buffer.put(bytes);
+    }
+
+    void putEnum(Enum<?> value) {
+        // By name, so reordering the enum doesn't corrupt stored data
+        putString(value != null ? value.name() : null);
+    }
+
+    void putDate(LocalDate value) {
+        putLong(value != null ? value.toEpochDay() : NULL_LONG);
+    }
+
+    void putDateTime(LocalDateTime value) {
+        if (value == null) {
+            putLong(NULL_LONG);
+            putInt(0);
+            return;
+        }
+        putLong(value.toEpochSecond(ZoneOffset.UTC));
+        putInt(value.getNano());
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.research.memstore;
+
+import java.sql.Timestamp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Copies users from the memory store into the relational users table. Tables
+ * that stay relational (reviews, for one) reference users by foreign key and
+ * JPA loads them from there, the same reason users are replicated to every
+ * shard.
+ */
+@Component
+@Profile("memory-store")
+public class RelationalUserMirror {
+    private static final Logger logger = LoggerFactory.getLogger(RelationalUserMirror.class);
+
+    private static final String UPSERT = "INSERT INTO users (id, username, email, password, first_name, last_name, "
+            + "title, department, institution, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE username = VALUES(username), email = VALUES(email), "
+            + "password = VALUES(password), first_name = VALUES(first_name), last_name = VALUES(last_name), "
+            + "title = VALUES(title), department = VALUES(department), institution = VALUES(institution), "
+            + "updated_at = VALUES(updated_at)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemoryStore store;
+
+    void save(UserRow user) {
+        jdbcTemplate.update(UPSERT, user.id(), user.username(), user.email(), user.password(), user.firstName(),
+                user.lastName(), user.title(), user.department(), user.institution(),
+                user.createdAt() != null ? Timestamp.valueOf(user.createdAt()) : null,
+                user.updatedAt() != null ? Timestamp.valueOf(user.updatedAt()) : null);
+    }
+
+    void delete(long id) {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", id);
+    }
+
+    /** Catches the table up after it was recreated or the store was restored. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void mirrorAll() {
+        Long mirrored = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (mirrored != null && mirrored == store.userCount()) {
+            return;
+        }
+        store.users().forEach(this::save);
+        logger.info("Mirrored {} users into the relational users table", store.userCount());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.research.memstore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Point-in-time copy of the whole store, written and read through memory
+ * mappings. Layout: magic, version, the user, project and status history
+ * counts, then that many length-prefixed records of each in that order. The
+ * counts come first so a loader can size its tables before reading. Written to
+ * a temporary file and renamed into place, so a snapshot that exists is
+ * complete.
+ */
+final class SnapshotFile {
+    static final int MAGIC = 0x52534d53; // "RSMS"
+    static final int VERSION = 1;
+
+    interface Loader {
+        void sizes(long users, long projects, long history);
+
+        void user(UserRow user);
+
+        void project(ProjectRow project);
+
+        void history(HistoryRow history);
+    }
+
+    private SnapshotFile() {
+    }
+
+    static void write(Path target, Collection<UserRow> users, Collection<ProjectRow> projects,
+            Collection<HistoryRow> history) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        RecordWriter record = new RecordWriter();
+        try (MappedFileWriter out = new MappedFileWriter(temp)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(users.size());
+            out.writeLong(projects.size());
+            out.writeLong(history.size());
+
+            for (UserRow user : users) {
+                RecordCodec.writeUser(record.clear(), user);
+                writeRecord(out, record);
+            }
+            for (ProjectRow project : projects) {
+                RecordCodec.writeProject(record.clear(), project);
+                writeRecord(out, record);
+            }
+            for (HistoryRow row : history) {
+                RecordCodec.writeHistory(record.clear(), row);
+                writeRecord(out, record);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static void read(Path source, Loader loader) throws IOException {
+        try (MappedFileReader in = new MappedFileReader(source)) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(source + " is not a memory store snapshot");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException(source + " has snapshot version " + version + ", expected " + VERSION);
+            }
+            long users = in.readLong();
+            long projects = in.readLong();
+            long history = in.readLong();
+            loader.sizes(users, projects, history);
+
+            for (long i = 0; i < users; i++) {
+                loader.user(readRecord(in, RecordCodec::readUser));
+            }
+            for (long i = 0; i < projects; i++) {
+                loader.project(readRecord(in, RecordCodec::readProject));
+            }
+            for (long i = 0; i < history; i++) {
+                loader.history(readRecord(in, RecordCodec::readHistory));
+            }
+        }
+    }
+
+    private static void writeRecord(MappedFileWriter out, RecordWriter record) throws IOException {
+        out.writeInt(record.size());
+        out.write(record.contents());
+    }
+
+    private static <T> T readRecord(MappedFileReader in, Function<ByteBuffer, T> decoder) throws IOException {
+        int length = in.readInt();
+        ByteBuffer window = in.readInPlace(length);
+        int end = window.position() + length;
+        T record = decoder.apply(window);
+        if (window.position() != end) {
+            throw new IOException("Snapshot record of " + length + " bytes decoded as " + (window.position() - end + length));
+        }
+        return record;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.research.memstore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of store mutations. Each entry is
+ * [body length][CRC32C of body][kind][op][record or id]. Replay stops at the
+ * first short or corrupt entry, which is where a crash cut the last write off.
+ */
+final class StoreLog implements Closeable {
+    static final byte KIND_USER = 1;
+    static final byte KIND_PROJECT = 2;
+    static final byte KIND_HISTORY = 3;
+    static final byte OP_PUT = 1;
+    static final byte OP_DELETE = 2;
+    // A project followed by a count and the status history saved with it
+    static final byte OP_PUT_WITH_HISTORY = 3;
+
+    private static final int HEADER_SIZE = 8;
+
+    interface Visitor {
+        void entry(byte kind, byte op, ByteBuffer record);
+    }
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    private final CRC32C crc = new CRC32C();
+
+    private StoreLog(FileChannel channel, boolean fsync) {
+        this.channel = channel;
+        this.fsync = fsync;
+    }
+
+    /** Opens the log for appending after its last complete entry. */
+    static StoreLog open(Path file, long validLength, boolean fsync) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+        if (channel.size() > validLength) {
+            channel.truncate(validLength);
+        }
+        channel.position(validLength);
+        return new StoreLog(channel, fsync);
+    }
+
+    /** Replays every complete entry and returns the length they cover. */
+    static long replay(Path file, Visitor visitor) throws IOException {
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            return 0L;
+        }
+        CRC32C crc = new CRC32C();
+        try (MappedFileReader reader = new MappedFileReader(file)) {
+            while (reader.remaining() >= HEADER_SIZE) {
+                long entryStart = reader.position();
+                int length = reader.readInt();
+                int checksum = reader.readInt();
+                if (length < 2 || length > reader.remaining()) {
+                    return entryStart;
+                }
+                ByteBuffer body = reader.read(length);
+                crc.reset();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    return entryStart;
+                }
+                byte kind = body.get();
+                byte op = body.get();
+                visitor.entry(kind, op, body);
+            }
+            return reader.position();
+        }
+    }
+
+    void append(byte kind, byte op, RecordWriter body) throws IOException {
+        ByteBuffer record = body.contents();
+        crc.reset();
+        crc.update(kind);
+        crc.update(op);
+        crc.update(record.duplicate());
+
+        header.clear();
+        header.putInt(record.remaining() + 2);
+        header.putInt((int) crc.getValue());
+        header.flip();
+        ByteBuffer kindAndOp = ByteBuffer.wrap(new byte[] {kind, op});
+        ByteBuffer[] entry = {header, kindAndOp, record};
+        while (header.hasRemaining() || kindAndOp.hasRemaining() || record.hasRemaining()) {
+            channel.write(entry);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    long size() throws IOException {
+        return channel.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+}
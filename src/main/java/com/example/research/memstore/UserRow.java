@@ -0,0 +1,17 @@
+package com.example.research.memstore;
+
+import java.time.LocalDateTime;
+
+record UserRow(
+        long id,
+        String username,
+        String email,
+        String password,
+        String firstName,
+        String lastName,
+        String title,
+        String department,
+        String institution,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
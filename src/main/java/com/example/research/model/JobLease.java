@@ -0,0 +1,32 @@
+package com.example.research.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "job_leases")
+@Data
+public class JobLease {
+    @Id
+    @Column(name = "job_name")
+    private String jobName;
+
+    @Column(name = "owner_node")
+    private String ownerNode;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    // Where the next chunk starts; null when the next run starts from the beginning
+    @Column(name = "checkpoint")
+    private String checkpoint;
+
+    // Cron fire time of the last run that took the lease
+    @Column(name = "last_fire_time")
+    private LocalDateTime lastFireTime;
+}
@@ -0,0 +1,7 @@
+package com.example.research.model;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
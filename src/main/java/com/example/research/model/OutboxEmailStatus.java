@@ -0,0 +1,8 @@
+package com.example.research.model;
+
+public enum OutboxEmailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED     // Gave up after the maximum number of attempts
+}
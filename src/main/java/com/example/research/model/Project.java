@@ -5,7 +5,10 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -22,22 +25,41 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Transient;
 import lombok.Data;
 
 @Entity
 @Table(name = "projects")
 @Data
 public class Project {
+    public static final int SUMMARY_LENGTH = 200;
+
+    // Taken from the shard's own counter in id_sequences, one at a time so no
+    // shard hands out ids cached from another
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "projects-ids")
+    @TableGenerator(name = "projects-ids", table = "id_sequences", pkColumnName = "name",
+            valueColumnName = "seq_value", pkColumnValue = "projects", allocationSize = 1)
     private Long id;
 
     @Column(nullable = false)
     private String title;
 
-    @Column(columnDefinition = "TEXT")
+    // Kept compressed in project_descriptions and only loaded for detail views;
+    // listings show the summary. Absent from the JSON when not loaded.
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String description;
 
+    @Transient
+    @JsonIgnore
+    private boolean descriptionChanged;
+
+    @Column(name = "summary")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String summary;
+
     @Enumerated(EnumType.STRING)
     private ProjectStatus status;
 
@@ -82,6 +104,34 @@ public class Project {
         updatedAt = LocalDate.now();
     }
 
+    /**
+     * Sets a new description, to be stored on the next save.
+     */
+    public void setDescription(String description) {
+        this.description = description;
+        this.summary = summarize(description);
+        this.descriptionChanged = true;
+    }
+
+    /**
+     * Sets the description as read from storage.
+     */
+    public void loadDescription(String description) {
+        this.description = description;
+        this.descriptionChanged = false;
+    }
+
+    public static String summarize(String description) {
+        if (description == null || description.length() <= SUMMARY_LENGTH) {
+            return description;
+        }
+        int end = SUMMARY_LENGTH - 1;
+        if (Character.isHighSurrogate(description.charAt(end - 1))) {
+            end--;
+        }
+        return description.substring(0, end) + "\u2026";
+    }
+
     public void addStatusHistory(ProjectStatus previousStatus, ProjectStatus newStatus, User changedBy) {
         StatusHistory history = new StatusHistory();
         history.setProject(this);
@@ -95,20 +145,28 @@ public class Project {
     }
 
     public void updateDeadlineStatus() {
+        DeadlineStatus previousStatus = deadlineStatus;
+        deadlineStatus = computeDeadlineStatus(LocalDate.now());
+
+        // A reminder covers one deadline status, so a new status needs a new reminder
+        if (deadlineStatus != previousStatus) {
+            reminderSent = false;
+        }
+    }
+
+    public DeadlineStatus computeDeadlineStatus(LocalDate today) {
         if (deadline == null) {
-            deadlineStatus = DeadlineStatus.NO_DEADLINE;
-            return;
+            return DeadlineStatus.NO_DEADLINE;
         }
 
-        LocalDate today = LocalDate.now();
         long daysUntilDeadline = ChronoUnit.DAYS.between(today, deadline);
 
         if (daysUntilDeadline < 0) {
-            deadlineStatus = DeadlineStatus.OVERDUE;
+            return DeadlineStatus.OVERDUE;
         } else if (daysUntilDeadline <= 7) {
-            deadlineStatus = DeadlineStatus.APPROACHING;
+            return DeadlineStatus.APPROACHING;
         } else {
-            deadlineStatus = DeadlineStatus.ON_TRACK;
+            return DeadlineStatus.ON_TRACK;
         }
     }
 
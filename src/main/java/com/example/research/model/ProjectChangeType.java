@@ -0,0 +1,6 @@
+package com.example.research.model;
+
+public enum ProjectChangeType {
+    UPDATED,  // Created or modified
+    DELETED
+}
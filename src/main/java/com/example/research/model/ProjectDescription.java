@@ -0,0 +1,27 @@
+package com.example.research.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * A project's full description, deflated, kept out of the projects row so
+ * that listings don't read it. See ProjectDescriptionService.
+ */
+@Entity
+@Table(name = "project_descriptions")
+@Data
+public class ProjectDescription {
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    // UTF-8 length of the uncompressed text
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] content;
+}
@@ -0,0 +1,39 @@
+package com.example.research.model;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "review_counters")
+@IdClass(ReviewCounter.Key.class)
+@Data
+public class ReviewCounter {
+    // Counter rows with this reviewer id hold the totals for all reviewers
+    public static final long ALL_REVIEWERS = 0L;
+
+    @Id
+    @Column(name = "reviewer_id")
+    private Long reviewerId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private ReviewStatus status;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Data
+    public static class Key implements Serializable {
+        private Long reviewerId;
+        private ReviewStatus status;
+    }
+}
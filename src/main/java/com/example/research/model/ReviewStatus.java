@@ -0,0 +1,7 @@
+package com.example.research.model;
+
+public enum ReviewStatus {
+    PENDING,
+    IN_PROGRESS,
+    COMPLETED
+}
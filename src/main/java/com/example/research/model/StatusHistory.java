@@ -16,14 +16,19 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Data;
 
 @Entity
 @Table(name = "status_history")
 @Data
 public class StatusHistory {
+    // Taken from the shard's own counter in id_sequences, one at a time so no
+    // shard hands out ids cached from another
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "status-history-ids")
+    @TableGenerator(name = "status-history-ids", table = "id_sequences", pkColumnName = "name",
+            valueColumnName = "seq_value", pkColumnValue = "status_history", allocationSize = 1)
     private Long id;
 
     @ManyToOne(fetch = FetchType.EAGER)
@@ -0,0 +1,166 @@
+package com.example.research.reminder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.Project;
+import com.example.research.sharding.ShardedProjectStore;
+
+/**
+ * Keeps every project's next reminder date in memory, bucketed by day, so
+ * finding due reminders never touches the projects table. Deadlines are whole
+ * dates, so one bucket per day is all the resolution needed. The buckets are
+ * loaded once at startup and kept current by {@code ProjectController}. Each
+ * node only sees its own controller's writes, so the node that takes the
+ * reminder job's lease first reloads the projects that can be due from the
+ * database ({@link #refreshDue}).
+ *
+ * A project is due on the day it enters the APPROACHING window (7 days out)
+ * and again on the day it becomes OVERDUE, unless the reminder for that status
+ * has already been sent.
+ */
+@Component
+public class DeadlineReminderEngine {
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineReminderEngine.class);
+
+    @Autowired
+    private ShardedProjectStore projectStore;
+
+    private final NavigableMap<LocalDate, Set<Long>> buckets = new TreeMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Project> projects = projectStore.findByDeadlineIsNotNullOrderByDeadline();
+        for (Project project : projects) {
+            schedule(project);
+        }
+        logger.info("Loaded {} deadline reminders", size());
+    }
+
+    /**
+     * Reschedules every project whose reminder can be due by {@code today},
+     * picking up projects created or edited through other nodes.
+     */
+    public void refreshDue(LocalDate today) {
+        List<Project> projects = projectStore.findReminderCandidates(today.plusDays(7));
+        for (Project project : projects) {
+            schedule(project);
+        }
+        logger.debug("Refreshed {} deadline reminders due by {}", projects.size(), today);
+    }
+
+    /**
+     * (Re)schedules the project's next reminder from its current state.
+     */
+    public synchronized void schedule(Project project) {
+        unschedule(project.getId());
+        LocalDate fireDate = nextFireDate(project, LocalDate.now());
+        if (fireDate == null) {
+            return;
+        }
+        Long ownerId = project.getOwner() != null ? project.getOwner().getId() : null;
+        entries.put(project.getId(), new Entry(project.getId(), ownerId, fireDate));
+        buckets.computeIfAbsent(fireDate, date -> new LinkedHashSet<>()).add(project.getId());
+    }
+
+    public synchronized void unschedule(Long projectId) {
+        Entry existing = entries.remove(projectId);
+        if (existing == null) {
+            return;
+        }
+        Set<Long> bucket = buckets.get(existing.getFireDate());
+        if (bucket != null) {
+            bucket.remove(projectId);
+            if (bucket.isEmpty()) {
+                buckets.remove(existing.getFireDate());
+            }
+        }
+    }
+
+    /**
+     * Removes and returns up to {@code max} entries due on or before the given
+     * day. Callers reschedule whatever they process.
+     */
+    public synchronized List<Entry> pollDue(LocalDate today, int max) {
+        List<Entry> due = new ArrayList<>();
+        Iterator<Map.Entry<LocalDate, Set<Long>>> days = buckets.headMap(today, true).entrySet().iterator();
+        while (days.hasNext() && due.size() < max) {
+            Set<Long> bucket = days.next().getValue();
+            Iterator<Long> ids = bucket.iterator();
+            while (ids.hasNext() && due.size() < max) {
+                due.add(entries.remove(ids.next()));
+                ids.remove();
+            }
+            if (bucket.isEmpty()) {
+                days.remove();
+            }
+        }
+        return due;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    static LocalDate nextFireDate(Project project, LocalDate today) {
+        LocalDate deadline = project.getDeadline();
+        if (deadline == null) {
+            return null;
+        }
+        DeadlineStatus status = project.computeDeadlineStatus(today);
+        boolean sent = isReminderSent(project, status);
+        switch (status) {
+            case OVERDUE:
+                return sent ? null : today;
+            case APPROACHING:
+                return sent ? deadline.plusDays(1) : today;
+            default:
+                return deadline.minusDays(7);
+        }
+    }
+
+    static boolean isReminderSent(Project project, DeadlineStatus status) {
+        return Boolean.TRUE.equals(project.getReminderSent()) && project.getDeadlineStatus() == status;
+    }
+
+    public static class Entry {
+        private final Long projectId;
+        private final Long ownerId;
+        private final LocalDate fireDate;
+
+        Entry(Long projectId, Long ownerId, LocalDate fireDate) {
+            this.projectId = projectId;
+            this.ownerId = ownerId;
+            this.fireDate = fireDate;
+        }
+
+        public Long getProjectId() {
+            return projectId;
+        }
+
+        public Long getOwnerId() {
+            return ownerId;
+        }
+
+        public LocalDate getFireDate() {
+            return fireDate;
+        }
+    }
+}
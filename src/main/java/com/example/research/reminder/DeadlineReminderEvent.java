@@ -0,0 +1,25 @@
+package com.example.research.reminder;
+
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.Project;
+
+/**
+ * Published when a project enters the APPROACHING window or becomes OVERDUE.
+ */
+public class DeadlineReminderEvent {
+    private final Project project;
+    private final DeadlineStatus status;
+
+    public DeadlineReminderEvent(Project project, DeadlineStatus status) {
+        this.project = project;
+        this.status = status;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public DeadlineStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.research.reminder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.research.jobs.ChunkResult;
+import com.example.research.jobs.ScheduledJob;
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.Project;
+import com.example.research.repository.ProjectRepository;
+import com.example.research.service.ProjectChangeService;
+import com.example.research.sharding.ShardTemplate;
+
+/**
+ * Fires the reminders the engine says are due. Before a run the engine
+ * reloads the projects that can be due, since the lease may land on a node
+ * that never saw their last edit. Due projects are re-read in one query per
+ * shard and checked before firing. reminder_sent is flipped once the
+ * reminders are queued, with one update per shard and status rather than one
+ * per project; a reminder that couldn't be queued stays due and fails the
+ * run, so the next run retries it.
+ */
+@Component
+public class DeadlineReminderJob implements ScheduledJob {
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineReminderJob.class);
+
+    @Autowired
+    private DeadlineReminderEngine reminderEngine;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ShardTemplate shardTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProjectChangeService changeService;
+
+    @Value("${jobs.deadline-reminders.cron:0 0 * * * *}")
+    private String cron;
+
+    @Value("${jobs.chunk-size:200}")
+    private int chunkSize;
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public DeadlineReminderJob(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public String getName() {
+        return "deadline-reminders";
+    }
+
+    @Override
+    public String getCron() {
+        return cron;
+    }
+
+    @Override
+    public void beforeRun() {
+        reminderEngine.refreshDue(LocalDate.now());
+    }
+
+    @Override
+    public ChunkResult processChunk(String checkpoint) {
+        LocalDate today = LocalDate.now();
+        List<DeadlineReminderEngine.Entry> due = reminderEngine.pollDue(today, chunkSize);
+        if (due.isEmpty()) {
+            return ChunkResult.done(0);
+        }
+
+        Map<Integer, List<Long>> idsByShard = new TreeMap<>();
+        for (DeadlineReminderEngine.Entry entry : due) {
+            idsByShard.computeIfAbsent(shardTemplate.shardForOwner(entry.getOwnerId()), shard -> new ArrayList<>())
+                    .add(entry.getProjectId());
+        }
+
+        int fired = 0;
+        for (Map.Entry<Integer, List<Long>> shardIds : idsByShard.entrySet()) {
+            fired += fireShard(shardIds.getKey(), shardIds.getValue(), today);
+        }
+        logger.info("Fired {} of {} due deadline reminders", fired, due.size());
+        // Anything left in today's buckets is picked up by the next chunk
+        return ChunkResult.more(today.toString(), due.size());
+    }
+
+    private int fireShard(int shard, List<Long> projectIds, LocalDate today) {
+        // Read-only so the entities aren't flushed back; the flags are set in bulk below
+        List<Project> projects = shardTemplate.onShard(shard,
+                () -> readOnlyTransaction.execute(status -> projectRepository.findAllById(projectIds)));
+
+        Map<DeadlineStatus, List<Project>> toNotify = new EnumMap<>(DeadlineStatus.class);
+        for (Project project : projects) {
+            DeadlineStatus status = project.computeDeadlineStatus(today);
+            if ((status == DeadlineStatus.APPROACHING || status == DeadlineStatus.OVERDUE)
+                    && !DeadlineReminderEngine.isReminderSent(project, status)) {
+                toNotify.computeIfAbsent(status, s -> new ArrayList<>()).add(project);
+            }
+        }
+
+        int fired = 0;
+        int failed = 0;
+        try {
+            for (Map.Entry<DeadlineStatus, List<Project>> batch : toNotify.entrySet()) {
+                DeadlineStatus status = batch.getKey();
+                List<Project> queued = new ArrayList<>();
+                for (Project project : batch.getValue()) {
+                    try {
+                        eventPublisher.publishEvent(new DeadlineReminderEvent(project, status));
+                        queued.add(project);
+                    } catch (RuntimeException e) {
+                        failed++;
+                        logger.error("Deadline reminder for project {} could not be queued: {}",
+                                project.getId(), e.getMessage());
+                    }
+                }
+                if (queued.isEmpty()) {
+                    continue;
+                }
+
+                // Only after the reminders are queued, so a failure can repeat one but never lose it
+                List<Long> ids = queued.stream().map(Project::getId).collect(Collectors.toList());
+                // Logged with the flags so delta syncs pick up the new deadline status
+                shardTemplate.onShard(shard, () -> transactionTemplate.executeWithoutResult(tx -> {
+                    projectRepository.markReminderSent(ids, status);
+                    changeService.recordUpdates(ids);
+                }));
+                for (Project project : queued) {
+                    project.setDeadlineStatus(status);
+                    project.setReminderSent(true);
+                }
+                fired += queued.size();
+            }
+        } finally {
+            // Unsent ones come straight back as due, so a failed batch is retried
+            for (Project project : projects) {
+                reminderEngine.schedule(project);
+            }
+        }
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " deadline reminders could not be queued");
+        }
+        return fired;
+    }
+}
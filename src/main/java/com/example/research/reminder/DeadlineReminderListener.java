@@ -0,0 +1,46 @@
+package com.example.research.reminder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.research.mail.EmailOutboxService;
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.Project;
+import com.example.research.model.User;
+
+/**
+ * Emails the project owner when a deadline reminder fires.
+ */
+@Component
+public class DeadlineReminderListener {
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineReminderListener.class);
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @EventListener
+    public void onDeadlineReminder(DeadlineReminderEvent event) {
+        Project project = event.getProject();
+        User owner = project.getOwner();
+        if (owner == null || owner.getEmail() == null) {
+            logger.info("No owner to remind for project {}", project.getId());
+            return;
+        }
+
+        boolean overdue = event.getStatus() == DeadlineStatus.OVERDUE;
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("firstName", owner.getFirstName());
+        variables.put("projectTitle", project.getTitle());
+        variables.put("deadline", project.getDeadline().toString());
+        variables.put("overdue", overdue);
+
+        String subject = (overdue ? "Deadline passed: " : "Deadline approaching: ") + project.getTitle();
+        emailOutboxService.enqueue(owner.getEmail(), subject, EmailOutboxService.TEMPLATE_DEADLINE_REMINDER, variables);
+    }
+}
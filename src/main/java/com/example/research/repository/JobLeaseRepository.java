@@ -0,0 +1,38 @@
+package com.example.research.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.research.model.JobLease;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // A single conditional update, so only one node can win an expired lease,
+    // and only for a fire time no node has run yet
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobLease l SET l.ownerNode = :node, l.leaseUntil = :until, l.lastFireTime = :fireTime "
+            + "WHERE l.jobName = :jobName AND (l.leaseUntil IS NULL OR l.leaseUntil < :now OR l.ownerNode = :node) "
+            + "AND (l.lastFireTime IS NULL OR l.lastFireTime < :fireTime)")
+    int tryAcquire(@Param("jobName") String jobName, @Param("node") String node, @Param("fireTime") LocalDateTime fireTime,
+                   @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobLease l SET l.leaseUntil = :until, l.checkpoint = :checkpoint "
+            + "WHERE l.jobName = :jobName AND l.ownerNode = :node")
+    int renew(@Param("jobName") String jobName, @Param("node") String node,
+              @Param("until") LocalDateTime until, @Param("checkpoint") String checkpoint);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobLease l SET l.leaseUntil = NULL WHERE l.jobName = :jobName AND l.ownerNode = :node")
+    int release(@Param("jobName") String jobName, @Param("node") String node);
+}
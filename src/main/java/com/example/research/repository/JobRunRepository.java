@@ -0,0 +1,13 @@
+package com.example.research.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.research.model.JobRun;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+    List<JobRun> findTop20ByJobNameOrderByStartedAtDesc(String jobName);
+}
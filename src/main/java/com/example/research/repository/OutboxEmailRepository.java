@@ -0,0 +1,59 @@
+package com.example.research.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.research.model.OutboxEmail;
+import com.example.research.model.OutboxEmailStatus;
+
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+
+    // Due messages, plus ones whose sender died before finishing
+    @Query("SELECT e FROM OutboxEmail e "
+            + "WHERE (e.status = com.example.research.model.OutboxEmailStatus.PENDING AND e.nextAttemptAt <= :now) "
+            + "OR (e.status = com.example.research.model.OutboxEmailStatus.SENDING AND e.claimedUntil < :now) "
+            + "ORDER BY e.nextAttemptAt")
+    List<OutboxEmail> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Conditional update so two nodes polling together can't both send a message;
+    // the rows this call won are the ones carrying its token
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEmail e SET e.status = com.example.research.model.OutboxEmailStatus.SENDING, "
+            + "e.claimedUntil = :until, e.claimToken = :token, e.attempts = e.attempts + 1 "
+            + "WHERE e.id IN :ids AND ((e.status = com.example.research.model.OutboxEmailStatus.PENDING "
+            + "AND e.nextAttemptAt <= :now) "
+            + "OR (e.status = com.example.research.model.OutboxEmailStatus.SENDING AND e.claimedUntil < :now))")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token,
+              @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    List<OutboxEmail> findByClaimToken(String claimToken);
+
+    // The outcome updates only apply while the sender's claim still holds; once
+    // another poll has reclaimed the message, its token no longer matches
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEmail e SET e.status = com.example.research.model.OutboxEmailStatus.SENT, "
+            + "e.sentAt = :sentAt, e.claimedUntil = NULL, e.claimToken = NULL, e.lastError = NULL "
+            + "WHERE e.id = :id AND e.claimToken = :token")
+    int markSent(@Param("id") Long id, @Param("token") String token, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEmail e SET e.status = :status, e.nextAttemptAt = :nextAttemptAt, e.lastError = :error, "
+            + "e.claimedUntil = NULL, e.claimToken = NULL "
+            + "WHERE e.id = :id AND e.claimToken = :token")
+    int markFailedAttempt(@Param("id") Long id, @Param("token") String token,
+                          @Param("status") OutboxEmailStatus status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+}
@@ -0,0 +1,28 @@
+package com.example.research.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.research.model.ProjectChange;
+
+@Repository
+public interface ProjectChangeRepository extends JpaRepository<ProjectChange, Long> {
+    List<ProjectChange> findBySeqGreaterThanOrderBySeq(Long seq, Pageable pageable);
+
+    // Holds the counter row's lock until the caller's transaction commits
+    @Modifying
+    @Query(value = "UPDATE change_sequences SET seq_value = seq_value + 1 WHERE name = :name", nativeQuery = true)
+    int advanceSequence(@Param("name") String name);
+
+    @Query(value = "SELECT seq_value FROM change_sequences WHERE name = :name", nativeQuery = true)
+    long currentSequence(@Param("name") String name);
+
+    List<ProjectChange> findByProjectIdIn(Collection<Long> projectIds);
+}
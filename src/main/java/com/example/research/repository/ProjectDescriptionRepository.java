@@ -0,0 +1,10 @@
+package com.example.research.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.research.model.ProjectDescription;
+
+@Repository
+public interface ProjectDescriptionRepository extends JpaRepository<ProjectDescription, Long> {
+}
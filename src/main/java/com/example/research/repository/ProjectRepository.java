@@ -1,10 +1,18 @@
 package com.example.research.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.research.model.DeadlineStatus;
 import com.example.research.model.Project;
 import com.example.research.model.ProjectStatus;
 import com.example.research.model.User;
@@ -16,4 +24,16 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     long countByStatus(ProjectStatus status);
     long countByOwner(User owner);
     List<Project> findByDeadlineIsNotNullOrderByDeadline();
+    List<Project> findByDeadlineIsNotNullAndIdGreaterThanOrderById(Long id, Pageable pageable);
+
+    // Deadlines up to the horizon, less the overdue ones already reminded, which never fire again
+    @Query("SELECT p FROM Project p WHERE p.deadline IS NOT NULL AND p.deadline <= :horizon "
+            + "AND (p.reminderSent IS NULL OR p.reminderSent = false OR p.deadlineStatus IS NULL "
+            + "OR p.deadlineStatus <> com.example.research.model.DeadlineStatus.OVERDUE)")
+    List<Project> findReminderCandidates(@Param("horizon") LocalDate horizon);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Project p SET p.reminderSent = true, p.deadlineStatus = :status WHERE p.id IN :ids")
+    int markReminderSent(@Param("ids") Collection<Long> ids, @Param("status") DeadlineStatus status);
 } 
\ No newline at end of file
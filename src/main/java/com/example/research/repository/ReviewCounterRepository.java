@@ -0,0 +1,23 @@
+package com.example.research.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.research.model.ReviewCounter;
+import com.example.research.model.ReviewStatus;
+
+@Repository
+public interface ReviewCounterRepository extends JpaRepository<ReviewCounter, ReviewCounter.Key> {
+    Optional<ReviewCounter> findByReviewerIdAndStatus(Long reviewerId, ReviewStatus status);
+
+    // Upsert, so the first review for a reviewer and status can't race another insert
+    @Modifying
+    @Query(value = "INSERT INTO review_counters (reviewer_id, status, review_count) VALUES (:reviewerId, :status, :delta) "
+            + "ON DUPLICATE KEY UPDATE review_count = review_count + :delta", nativeQuery = true)
+    int adjust(@Param("reviewerId") Long reviewerId, @Param("status") String status, @Param("delta") long delta);
+}
@@ -0,0 +1,39 @@
+package com.example.research.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.research.model.Review;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+    // Slices skip the count query a Page would need
+    @EntityGraph(attributePaths = "reviewer")
+    Slice<Review> findAllBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = "reviewer")
+    Slice<Review> findByProjectId(Long projectId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "reviewer")
+    Slice<Review> findByReviewerId(Long reviewerId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "reviewer")
+    Optional<Review> findWithReviewerById(Long id);
+
+    List<Review> findByProjectId(Long projectId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Review r SET r.projectTitle = :title WHERE r.projectId = :projectId")
+    int updateProjectTitle(@Param("projectId") Long projectId, @Param("title") String title);
+}
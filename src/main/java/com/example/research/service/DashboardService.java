@@ -14,40 +14,41 @@ import com.example.research.dto.UpcomingDeadlineDTO;
 import com.example.research.model.DeadlineStatus;
 import com.example.research.model.Project;
 import com.example.research.model.ProjectStatus;
+import com.example.research.model.ReviewStatus;
 import com.example.research.model.StatusHistory;
-import com.example.research.repository.ProjectRepository;
-import com.example.research.repository.StatusHistoryRepository;
 import com.example.research.repository.UserRepository;
+import com.example.research.sharding.ShardedProjectStore;
 
 @Service
 public class DashboardService {
 
     @Autowired
-    private ProjectRepository projectRepository;
+    private ShardedProjectStore projectStore;
 
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private StatusHistoryRepository statusHistoryRepository;
+    private ReviewService reviewService;
 
     public DashboardStatsDTO getDashboardStats() {
         DashboardStatsDTO stats = new DashboardStatsDTO();
         
         // Set basic stats
         stats.setTotalUsers(userRepository.count());
-        stats.setActiveProjects(projectRepository.countByStatus(ProjectStatus.IN_PROGRESS));
-        stats.setPendingReviews(0L); // TODO: Implement when review system is added
+        stats.setActiveProjects(projectStore.countByStatus(ProjectStatus.IN_PROGRESS));
+        stats.setPendingReviews(reviewService.countAll(ReviewStatus.PENDING));
+        stats.setCompletedReviews(reviewService.countAll(ReviewStatus.COMPLETED));
 
         // Get recent status changes
-        List<StatusHistory> recentChanges = statusHistoryRepository.findTop10ByOrderByChangedAtDesc();
+        List<StatusHistory> recentChanges = projectStore.findTop10ByOrderByChangedAtDesc();
         List<StatusChangeDTO> statusChanges = recentChanges.stream()
             .map(this::convertToStatusChangeDTO)
             .collect(Collectors.toList());
         stats.setRecentStatusChanges(statusChanges);
 
         // Get upcoming deadlines
-        List<Project> projectsWithDeadlines = projectRepository.findByDeadlineIsNotNullOrderByDeadline();
+        List<Project> projectsWithDeadlines = projectStore.findByDeadlineIsNotNullOrderByDeadline();
         List<UpcomingDeadlineDTO> upcomingDeadlines = projectsWithDeadlines.stream()
             .map(this::convertToUpcomingDeadlineDTO)
             .filter(dto -> dto != null && (dto.getStatus().equals("APPROACHING") || dto.getStatus().equals("OVERDUE")))
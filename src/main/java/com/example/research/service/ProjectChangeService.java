@@ -0,0 +1,147 @@
+package com.example.research.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.research.dto.ProjectChangesDTO;
+import com.example.research.model.Project;
+import com.example.research.model.ProjectChange;
+import com.example.research.model.ProjectChangeType;
+import com.example.research.repository.ProjectChangeRepository;
+import com.example.research.sharding.ShardContext;
+import com.example.research.sharding.ShardPositions;
+import com.example.research.sharding.ShardTemplate;
+import com.example.research.sharding.ShardedProjectStore;
+
+/**
+ * Records every project write under a monotonic sequence number and serves
+ * the changes since a client's last sync token. A missing token gets the full
+ * list along with the token to poll from.
+ *
+ * Each shard keeps its own change log next to its projects, so a change is
+ * recorded in the same transaction as the write it describes. The sync token
+ * holds a position per shard; see {@link ShardPositions}.
+ */
+@Service
+public class ProjectChangeService {
+    private static final String SEQUENCE = "projects";
+
+    @Autowired
+    private ProjectChangeRepository changeRepository;
+
+    @Autowired
+    private ShardedProjectStore projectStore;
+
+    @Autowired
+    private ShardTemplate shardTemplate;
+
+    @Value("${app.sync.page-size:500}")
+    private int pageSize;
+
+    /**
+     * Must run inside the transaction that saved the project, on its shard.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdate(Long projectId) {
+        record(projectId, ProjectChangeType.UPDATED);
+    }
+
+    /**
+     * For bulk updates; like {@link #recordUpdate}, must share their transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdates(Collection<Long> projectIds) {
+        for (Long projectId : projectIds) {
+            record(projectId, ProjectChangeType.UPDATED);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDelete(Long projectId) {
+        record(projectId, ProjectChangeType.DELETED);
+    }
+
+    public ProjectChangesDTO snapshot() {
+        // Read the token first; writes racing the scan are sent again next poll
+        long[] token = shardTemplate.onAllShards(() -> changeRepository.currentSequence(SEQUENCE)).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        ProjectChangesDTO dto = new ProjectChangesDTO();
+        dto.setProjects(projectStore.findAll());
+        dto.setDeleted(List.of());
+        dto.setToken(ShardPositions.format(token));
+        dto.setFullSync(true);
+        return dto;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is malformed or was issued
+     *         for a different number of shards
+     */
+    public ProjectChangesDTO changesSince(String since) {
+        long[] positions = ShardPositions.parse(since, shardTemplate.getShardCount());
+        List<List<ProjectChange>> pages = shardTemplate.onAllShards(() -> changeRepository
+                .findBySeqGreaterThanOrderBySeq(positions[ShardContext.current()], PageRequest.of(0, pageSize)));
+
+        // Only the latest change per project matters
+        Map<Long, ProjectChangeType> latest = new LinkedHashMap<>();
+        long[] token = positions.clone();
+        boolean hasMore = false;
+        for (int shard = 0; shard < pages.size(); shard++) {
+            List<ProjectChange> changes = pages.get(shard);
+            for (ProjectChange change : changes) {
+                latest.remove(change.getProjectId());
+                latest.put(change.getProjectId(), change.getChangeType());
+            }
+            if (!changes.isEmpty()) {
+                token[shard] = changes.get(changes.size() - 1).getSeq();
+            }
+            hasMore |= changes.size() == pageSize;
+        }
+
+        Set<Long> updatedIds = latest.entrySet().stream()
+                .filter(entry -> entry.getValue() == ProjectChangeType.UPDATED)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        List<Project> projects = projectStore.findAllById(updatedIds);
+
+        // A project deleted after this page was read is gone too
+        Set<Long> found = projects.stream().map(Project::getId).collect(Collectors.toSet());
+        List<Long> deleted = new ArrayList<>();
+        latest.forEach((projectId, type) -> {
+            if (type == ProjectChangeType.DELETED || !found.contains(projectId)) {
+                deleted.add(projectId);
+            }
+        });
+
+        ProjectChangesDTO dto = new ProjectChangesDTO();
+        dto.setProjects(projects);
+        dto.setDeleted(deleted);
+        dto.setToken(ShardPositions.format(token));
+        dto.setHasMore(hasMore);
+        return dto;
+    }
+
+    private void record(Long projectId, ProjectChangeType type) {
+        changeRepository.advanceSequence(SEQUENCE);
+        ProjectChange change = new ProjectChange();
+        change.setSeq(changeRepository.currentSequence(SEQUENCE));
+        change.setProjectId(projectId);
+        change.setChangeType(type);
+        change.setChangedAt(LocalDateTime.now());
+        changeRepository.save(change);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.research.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.research.model.ProjectDescription;
+import com.example.research.repository.ProjectDescriptionRepository;
+import com.example.research.util.CompressedText;
+
+/**
+ * Stores project descriptions compressed in project_descriptions. Projects
+ * are loaded without them; only detail views read the full text, through
+ * ShardedProjectStore, which calls this on the project's shard.
+ */
+@Service
+public class ProjectDescriptionService {
+
+    @Autowired
+    private ProjectDescriptionRepository descriptionRepository;
+
+    public String find(Long projectId) {
+        return descriptionRepository.findById(projectId)
+                .map(description -> CompressedText.decompress(description.getContent(),
+                        description.getOriginalLength()))
+                .orElse(null);
+    }
+
+    /**
+     * Saves the description, or removes it when it is null or empty.
+     */
+    public void store(Long projectId, String text) {
+        if (text == null || text.isEmpty()) {
+            delete(projectId);
+            return;
+        }
+        byte[] utf8 = CompressedText.utf8(text);
+        ProjectDescription description = new ProjectDescription();
+        description.setProjectId(projectId);
+        description.setOriginalLength(utf8.length);
+        description.setContent(CompressedText.compress(utf8));
+        descriptionRepository.save(description);
+    }
+
+    public void delete(Long projectId) {
+        if (descriptionRepository.existsById(projectId)) {
+            descriptionRepository.deleteById(projectId);
+        }
+    }
+}
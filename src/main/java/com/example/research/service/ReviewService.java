@@ -0,0 +1,101 @@
+package com.example.research.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.research.model.Project;
+import com.example.research.model.Review;
+import com.example.research.model.ReviewCounter;
+import com.example.research.model.ReviewStatus;
+import com.example.research.model.User;
+import com.example.research.repository.ReviewCounterRepository;
+import com.example.research.repository.ReviewRepository;
+
+/**
+ * Review writes go through here so review_counters changes in the same
+ * transaction as the review itself. Counts are then single-row reads instead
+ * of scans over reviews.
+ */
+@Service
+public class ReviewService {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewCounterRepository counterRepository;
+
+    @Transactional
+    public Review create(Project project, User reviewer) {
+        Review review = new Review();
+        review.setProjectId(project.getId());
+        review.setProjectTitle(project.getTitle());
+        review.setReviewer(reviewer);
+        review.setStatus(ReviewStatus.PENDING);
+        Review saved = reviewRepository.save(review);
+        adjustCounters(reviewer.getId(), saved.getStatus(), 1);
+        return saved;
+    }
+
+    /**
+     * Applies the fields that are given; null leaves the stored value as is.
+     */
+    @Transactional
+    public Optional<Review> update(Long id, Integer rating, String comments, ReviewStatus status) {
+        return reviewRepository.findWithReviewerById(id).map(review -> {
+            if (rating != null) {
+                review.setRating(rating);
+            }
+            if (comments != null) {
+                review.setComments(comments);
+            }
+            if (status != null && status != review.getStatus()) {
+                Long reviewerId = review.getReviewer().getId();
+                adjustCounters(reviewerId, review.getStatus(), -1);
+                adjustCounters(reviewerId, status, 1);
+                review.setStatus(status);
+                review.setSubmittedAt(status == ReviewStatus.COMPLETED ? LocalDateTime.now() : null);
+            }
+            return reviewRepository.save(review);
+        });
+    }
+
+    @Transactional
+    public boolean delete(Long id) {
+        return reviewRepository.findWithReviewerById(id).map(review -> {
+            remove(review);
+            return true;
+        }).orElse(false);
+    }
+
+    @Transactional
+    public void deleteByProject(Long projectId) {
+        List<Review> reviews = reviewRepository.findByProjectId(projectId);
+        reviews.forEach(this::remove);
+    }
+
+    public long countFor(Long reviewerId, ReviewStatus status) {
+        return counterRepository.findByReviewerIdAndStatus(reviewerId, status)
+                .map(ReviewCounter::getReviewCount)
+                .orElse(0L);
+    }
+
+    public long countAll(ReviewStatus status) {
+        return countFor(ReviewCounter.ALL_REVIEWERS, status);
+    }
+
+    private void remove(Review review) {
+        adjustCounters(review.getReviewer().getId(), review.getStatus(), -1);
+        reviewRepository.delete(review);
+    }
+
+    private void adjustCounters(Long reviewerId, ReviewStatus status, long delta) {
+        counterRepository.adjust(reviewerId, status.name(), delta);
+        counterRepository.adjust(ReviewCounter.ALL_REVIEWERS, status.name(), delta);
+    }
+}
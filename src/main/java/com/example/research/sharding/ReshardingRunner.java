@@ -0,0 +1,41 @@
+package com.example.research.sharding;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command line entry point for resharding:
+ * --reshard-owner=ID[,ID...] moves the listed owners to their home shard,
+ * --reshard-all moves every owner that is on the wrong shard.
+ */
+@Component
+public class ReshardingRunner implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(ReshardingRunner.class);
+
+    @Autowired
+    private ReshardingService reshardingService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("reshard-all")) {
+            reshardingService.rebalanceAll();
+        }
+
+        List<String> owners = args.getOptionValues("reshard-owner");
+        if (owners == null) {
+            return;
+        }
+        for (String value : owners) {
+            for (String ownerId : value.split(",")) {
+                int moved = reshardingService.moveOwner(Long.valueOf(ownerId.trim()));
+                logger.info("Resharded owner {}: {} projects moved", ownerId.trim(), moved);
+            }
+        }
+    }
+}
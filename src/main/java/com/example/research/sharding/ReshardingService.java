@@ -0,0 +1,202 @@
+package com.example.research.sharding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves data between shards. An owner's projects, their status history and
+ * their descriptions always travel together so the shard that owns a project
+ * also owns its history and description. Users are a reference table copied to every shard that needs them.
+ *
+ * Copies are written to the target before the source rows are deleted, and
+ * rows already present on the target are skipped, so an interrupted move can
+ * simply be run again. Writes for an owner should be paused while it moves.
+ */
+@Service
+public class ReshardingService {
+    private static final Logger logger = LoggerFactory.getLogger(ReshardingService.class);
+
+    @Autowired
+    private ShardTemplate shardTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ReshardingService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Moves every owner whose projects sit on a shard other than the one the
+     * current shard count routes them to. Run after adding shards.
+     */
+    public int rebalanceAll() {
+        int moved = 0;
+        for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+            List<Long> ownerIds = shardTemplate.onShard(shard, () -> jdbcTemplate.queryForList(
+                    "SELECT DISTINCT owner_id FROM projects WHERE owner_id IS NOT NULL", Long.class));
+            for (Long ownerId : ownerIds) {
+                if (shardTemplate.shardForOwner(ownerId) != shard) {
+                    moved += moveOwner(ownerId);
+                }
+            }
+        }
+        logger.info("Rebalance moved {} projects", moved);
+        return moved;
+    }
+
+    /**
+     * Gathers all of an owner's projects and history onto the owner's home
+     * shard. Returns the number of projects moved.
+     */
+    public int moveOwner(Long ownerId) {
+        int target = shardTemplate.shardForOwner(ownerId);
+        int moved = 0;
+        for (int source = 0; source < shardTemplate.getShardCount(); source++) {
+            if (source != target) {
+                moved += moveOwner(ownerId, source, target);
+            }
+        }
+        return moved;
+    }
+
+    private int moveOwner(Long ownerId, int source, int target) {
+        List<Map<String, Object>> projects = shardTemplate.onShard(source, () -> jdbcTemplate.queryForList(
+                "SELECT * FROM projects WHERE owner_id = ?", ownerId));
+        if (projects.isEmpty()) {
+            return 0;
+        }
+        List<Map<String, Object>> history = shardTemplate.onShard(source, () -> jdbcTemplate.queryForList(
+                "SELECT h.* FROM status_history h JOIN projects p ON h.project_id = p.id WHERE p.owner_id = ?",
+                ownerId));
+        List<Map<String, Object>> descriptions = shardTemplate.onShard(source, () -> jdbcTemplate.queryForList(
+                "SELECT d.* FROM project_descriptions d JOIN projects p ON d.project_id = p.id WHERE p.owner_id = ?",
+                ownerId));
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        userIds.add(ownerId);
+        for (Map<String, Object> row : history) {
+            Object changedBy = row.get("changed_by_id");
+            if (changedBy != null) {
+                userIds.add(((Number) changedBy).longValue());
+            }
+        }
+        copyUsers(userIds, source, target);
+
+        shardTemplate.onShard(target, () -> transactionTemplate.executeWithoutResult(status -> {
+            insertMissing("projects", projects);
+            insertMissing("status_history", history);
+            insertMissing("project_descriptions", "project_id", descriptions);
+        }));
+
+        List<Object> projectIds = projects.stream()
+                .map(row -> row.get("id"))
+                .collect(Collectors.toList());
+        String placeholders = String.join(",", Collections.nCopies(projectIds.size(), "?"));
+        shardTemplate.onShard(source, () -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM status_history WHERE project_id IN (" + placeholders + ")",
+                    projectIds.toArray());
+            jdbcTemplate.update("DELETE FROM project_descriptions WHERE project_id IN (" + placeholders + ")",
+                    projectIds.toArray());
+            jdbcTemplate.update("DELETE FROM projects WHERE id IN (" + placeholders + ")",
+                    projectIds.toArray());
+        }));
+
+        logger.info("Moved {} projects and {} history rows for owner {} from shard {} to shard {}",
+                projects.size(), history.size(), ownerId, source, target);
+        return projects.size();
+    }
+
+    /**
+     * Copies the given user from the default shard to every other shard,
+     * updating copies that already exist.
+     */
+    public void replicateUser(Long userId) {
+        List<Map<String, Object>> rows = shardTemplate.onShard(ShardContext.DEFAULT_SHARD,
+                () -> jdbcTemplate.queryForList("SELECT * FROM users WHERE id = ?", userId));
+        if (rows.isEmpty()) {
+            return;
+        }
+        for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+            if (shard != ShardContext.DEFAULT_SHARD) {
+                shardTemplate.onShard(shard, () -> transactionTemplate.executeWithoutResult(
+                        status -> upsert("users", rows.get(0))));
+            }
+        }
+    }
+
+    private void copyUsers(Collection<Long> userIds, int source, int target) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Long userId : userIds) {
+            rows.addAll(shardTemplate.onShard(source, () -> jdbcTemplate.queryForList(
+                    "SELECT * FROM users WHERE id = ?", userId)));
+        }
+        shardTemplate.onShard(target, () -> transactionTemplate.executeWithoutResult(
+                status -> insertMissing("users", rows)));
+    }
+
+    private void insertMissing(String table, List<Map<String, Object>> rows) {
+        insertMissing(table, "id", rows);
+    }
+
+    private void insertMissing(String table, String keyColumn, List<Map<String, Object>> rows) {
+        for (Map<String, Object> row : rows) {
+            if (!exists(table, keyColumn, row.get(keyColumn))) {
+                insert(table, row);
+            }
+        }
+    }
+
+    private void upsert(String table, Map<String, Object> row) {
+        Object id = row.get("id");
+        if (!exists(table, id)) {
+            insert(table, row);
+            return;
+        }
+        List<String> columns = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        row.forEach((name, value) -> {
+            if (!name.equalsIgnoreCase("id")) {
+                columns.add(name + " = ?");
+                values.add(value);
+            }
+        });
+        values.add(id);
+        jdbcTemplate.update("UPDATE " + table + " SET " + String.join(", ", columns) + " WHERE id = ?",
+                values.toArray());
+    }
+
+    private boolean exists(String table, Object id) {
+        return exists(table, "id", id);
+    }
+
+    private boolean exists(String table, String keyColumn, Object key) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + keyColumn + " = ?", Integer.class, key);
+        return count != null && count > 0;
+    }
+
+    private void insert(String table, Map<String, Object> row) {
+        String columns = String.join(", ", row.keySet());
+        String placeholders = String.join(", ", Collections.nCopies(row.size(), "?"));
+        jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")",
+                row.values().toArray());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.research.sharding;
+
+/**
+ * Holds the shard the current thread is working against. The routing
+ * datasource reads it when a transaction opens a connection, so it has to be
+ * set before the repository call starts its transaction.
+ */
+public final class ShardContext {
+    public static final int DEFAULT_SHARD = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard != null ? shard : DEFAULT_SHARD;
+    }
+
+    static Integer get() {
+        return CURRENT.get();
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
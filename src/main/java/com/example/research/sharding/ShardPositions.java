@@ -0,0 +1,41 @@
+package com.example.research.sharding;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * A position per shard in a log that each shard keeps for itself, written as
+ * the positions joined with dots in shard order. With a single shard that is
+ * just the number, so tokens from before sharding still parse.
+ */
+public final class ShardPositions {
+
+    private ShardPositions() {
+    }
+
+    public static long[] start(int shardCount) {
+        return new long[shardCount];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value is malformed or was
+     *         written for a different number of shards
+     */
+    public static long[] parse(String value, int shardCount) {
+        String[] parts = value.split("\\.", -1);
+        if (parts.length != shardCount) {
+            throw new IllegalArgumentException("Expected " + shardCount + " shard positions in " + value);
+        }
+        long[] positions = new long[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            positions[shard] = Long.parseLong(parts[shard]);
+        }
+        return positions;
+    }
+
+    public static String format(long[] positions) {
+        return Arrays.stream(positions)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining("."));
+    }
+}
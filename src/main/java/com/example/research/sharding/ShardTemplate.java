@@ -0,0 +1,118 @@
+package com.example.research.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs repository work against a specific shard, or against all of them
+ * concurrently for scatter-gather reads. Owners map to shards by a fixed hash
+ * of their id, so routing needs no lookup table.
+ */
+@Component
+public class ShardTemplate {
+
+    private final int shardCount;
+    private final long idBlockSize;
+    private final ExecutorService scatterExecutor;
+
+    @Autowired
+    public ShardTemplate(ShardingProperties properties) {
+        this.shardCount = properties.getShardCount();
+        this.idBlockSize = properties.getIdBlockSize();
+        this.scatterExecutor = shardCount > 1 ? Executors.newFixedThreadPool(shardCount) : null;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardForOwner(Long ownerId) {
+        return shardForOwner(ownerId, shardCount);
+    }
+
+    public static int shardForOwner(Long ownerId, int shardCount) {
+        if (ownerId == null || shardCount <= 1) {
+            return ShardContext.DEFAULT_SHARD;
+        }
+        // Spread sequential ids before taking the modulus
+        long mixed = ownerId * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(mixed ^ (mixed >>> 32), (long) shardCount);
+    }
+
+    /**
+     * The shard whose id block the project or history id was allocated from.
+     * Resharding moves rows without renumbering them, so this is where the
+     * row was created, not necessarily where it is now.
+     */
+    public int shardForId(Long id) {
+        if (id == null || id < 1 || shardCount <= 1) {
+            return ShardContext.DEFAULT_SHARD;
+        }
+        long shard = (id - 1) / idBlockSize;
+        return shard < shardCount ? (int) shard : ShardContext.DEFAULT_SHARD;
+    }
+
+    public <T> T onShard(int shard, Supplier<T> work) {
+        Integer previous = ShardContext.get();
+        ShardContext.set(shard);
+        try {
+            return work.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    public void onShard(int shard, Runnable work) {
+        onShard(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the work once per shard and returns the results in shard order.
+     */
+    public <T> List<T> onAllShards(Supplier<T> work) {
+        List<T> results = new ArrayList<>(shardCount);
+        if (scatterExecutor == null) {
+            for (int shard = 0; shard < shardCount; shard++) {
+                results.add(onShard(shard, work));
+            }
+            return results;
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> onShard(target, work), scatterExecutor));
+        }
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.research.sharding;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.research.model.Project;
+import com.example.research.model.ProjectStatus;
+import com.example.research.model.StatusHistory;
+import com.example.research.model.User;
+import com.example.research.repository.ProjectRepository;
+import com.example.research.repository.StatusHistoryRepository;
+import com.example.research.repository.UserRepository;
+import com.example.research.service.ProjectDescriptionService;
+
+/**
+ * Shard-aware front for {@link ProjectRepository} and
+ * {@link StatusHistoryRepository}. Owner-scoped calls go to the owner's shard;
+ * everything else is scattered across shards and merged. With sharding
+ * disabled there is a single shard and every call passes straight through.
+ * Descriptions live next to their project and are only read by
+ * {@link #findWithDescription}.
+ */
+@Service
+public class ShardedProjectStore {
+
+    @Autowired
+    private ShardTemplate shardTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private StatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReshardingService reshardingService;
+
+    @Autowired
+    private ProjectDescriptionService descriptionService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ShardedProjectStore(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Project save(Project project) {
+        return save(project, saved -> { });
+    }
+
+    /**
+     * Saves the project and then runs {@code alsoInTransaction} in the same
+     * transaction on the project's shard, so both commit or neither does.
+     */
+    public Project save(Project project, Consumer<Project> alsoInTransaction) {
+        return shardTemplate.onShard(shardFor(project), () -> transactionTemplate.execute(status -> {
+            Project saved = projectRepository.save(project);
+            if (project.isDescriptionChanged()) {
+                descriptionService.store(saved.getId(), project.getDescription());
+            }
+            // Merging returns a new instance, which doesn't carry the transient description
+            saved.loadDescription(project.getDescription());
+            alsoInTransaction.accept(saved);
+            return saved;
+        }));
+    }
+
+    public void delete(Project project) {
+        delete(project, deleted -> { });
+    }
+
+    /**
+     * Deletes the project and runs {@code alsoInTransaction} in the same
+     * transaction on the project's shard.
+     */
+    public void delete(Project project, Consumer<Project> alsoInTransaction) {
+        shardTemplate.onShard(shardFor(project), () -> transactionTemplate.executeWithoutResult(status -> {
+            projectRepository.delete(project);
+            descriptionService.delete(project.getId());
+            alsoInTransaction.accept(project);
+        }));
+    }
+
+    /**
+     * Looks on the shard that allocated the id, and only if the project has
+     * since been moved by resharding, on the others.
+     */
+    public Optional<Project> findById(Long id) {
+        int home = shardTemplate.shardForId(id);
+        Optional<Project> project = shardTemplate.onShard(home, () -> projectRepository.findById(id));
+        if (project.isPresent() || shardTemplate.getShardCount() == 1) {
+            return project;
+        }
+        for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+            if (shard != home) {
+                project = shardTemplate.onShard(shard, () -> projectRepository.findById(id));
+                if (project.isPresent()) {
+                    return project;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the project along with its full description, for detail views.
+     */
+    public Optional<Project> findWithDescription(Long id) {
+        return findById(id).map(project -> {
+            project.loadDescription(shardTemplate.onShard(shardFor(project), () -> descriptionService.find(id)));
+            return project;
+        });
+    }
+
+    public List<Project> findAll() {
+        return flatten(shardTemplate.onAllShards(projectRepository::findAll));
+    }
+
+    public List<Project> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return flatten(shardTemplate.onAllShards(() -> projectRepository.findAllById(ids)));
+    }
+
+    public List<Project> findByOwner(User owner) {
+        return shardTemplate.onShard(shardTemplate.shardForOwner(owner.getId()),
+                () -> projectRepository.findByOwner(owner));
+    }
+
+    public List<Project> findByStatus(ProjectStatus status) {
+        return flatten(shardTemplate.onAllShards(() -> projectRepository.findByStatus(status)));
+    }
+
+    public long count() {
+        return shardTemplate.onAllShards(projectRepository::count).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public long countByStatus(ProjectStatus status) {
+        return shardTemplate.onAllShards(() -> projectRepository.countByStatus(status)).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public List<Project> findByDeadlineIsNotNullOrderByDeadline() {
+        return flatten(shardTemplate.onAllShards(projectRepository::findByDeadlineIsNotNullOrderByDeadline))
+                .stream()
+                .sorted(Comparator.comparing(Project::getDeadline))
+                .collect(Collectors.toList());
+    }
+
+    public List<Project> findReminderCandidates(LocalDate horizon) {
+        return flatten(shardTemplate.onAllShards(() -> projectRepository.findReminderCandidates(horizon)));
+    }
+
+    public List<StatusHistory> findTop10ByOrderByChangedAtDesc() {
+        // Each shard's top 10 contains every row of the global top 10 it holds
+        return flatten(shardTemplate.onAllShards(statusHistoryRepository::findTop10ByOrderByChangedAtDesc))
+                .stream()
+                .sorted(Comparator.comparing(StatusHistory::getChangedAt).reversed())
+                .limit(10)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Saves the user on the default shard and copies it to the others so
+     * projects on any shard can reference it.
+     */
+    public User saveUser(User user) {
+        User saved = shardTemplate.onShard(ShardContext.DEFAULT_SHARD, () -> userRepository.save(user));
+        if (shardTemplate.getShardCount() > 1) {
+            reshardingService.replicateUser(saved.getId());
+        }
+        return saved;
+    }
+
+    private int shardFor(Project project) {
+        User owner = project.getOwner();
+        return shardTemplate.shardForOwner(owner != null ? owner.getId() : null);
+    }
+
+    private static <T> List<T> flatten(List<List<T>> perShard) {
+        return perShard.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.research.sharding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+    private static final Logger logger = LoggerFactory.getLogger(ShardingConfig.class);
+
+    /**
+     * Replaces the single auto-configured datasource with one that routes each
+     * connection to the shard selected in {@link ShardContext}. Migrations are
+     * applied to every shard here since Boot's Flyway only sees the primary
+     * datasource, which routes to the default shard.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+    public DataSource shardRoutingDataSource(ShardingProperties properties, Environment environment) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("app.sharding.enabled is set but no app.sharding.shards are configured");
+        }
+        // An open-in-view EntityManager keeps the request's first connection, so
+        // later ShardTemplate.onShard calls would silently use that shard
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            throw new IllegalStateException("app.sharding.enabled requires spring.jpa.open-in-view=false");
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            DataSource shardDataSource = createShardDataSource(shards.get(i));
+            initializeShard(i, shardDataSource, properties);
+            targets.put(i, shardDataSource);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(ShardContext.DEFAULT_SHARD));
+        routing.afterPropertiesSet();
+        logger.info("Routing projects across {} shards", shards.size());
+        return routing;
+    }
+
+    private DataSource createShardDataSource(ShardingProperties.Shard shard) {
+        DataSourceBuilder<?> builder = DataSourceBuilder.create()
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword());
+        if (shard.getDriverClassName() != null) {
+            builder.driverClassName(shard.getDriverClassName());
+        }
+        return builder.build();
+    }
+
+    private void initializeShard(int index, DataSource dataSource, ShardingProperties properties) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations(properties.getMigrationLocations().toArray(new String[0]))
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        long firstId = index * properties.getIdBlockSize() + 1;
+        long lastId = firstId + properties.getIdBlockSize() - 1;
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String table : new String[] {"projects", "status_history"}) {
+            placeSequenceInBlock(jdbcTemplate, table, firstId, lastId);
+        }
+        logger.info("Migrated shard {}", index);
+    }
+
+    /**
+     * Points the table's id counter at the shard's own block, past every id
+     * the shard has already handed out from it. Rows moved in from other
+     * shards keep ids outside the block and are ignored, whereas a counter
+     * that was left outside the block (seeded from such rows) is pulled back.
+     */
+    private void placeSequenceInBlock(JdbcTemplate jdbcTemplate, String table, long firstId, long lastId) {
+        Long lastUsed = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), ?) FROM " + table + " WHERE id BETWEEN ? AND ?",
+                Long.class, firstId - 1, firstId, lastId);
+        Long current = jdbcTemplate.queryForObject(
+                "SELECT seq_value FROM id_sequences WHERE name = ?", Long.class, table);
+        if (current < lastUsed || current > lastId) {
+            jdbcTemplate.update("UPDATE id_sequences SET seq_value = ? WHERE name = ?", lastUsed, table);
+        }
+    }
+}
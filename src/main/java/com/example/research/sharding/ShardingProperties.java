@@ -0,0 +1,91 @@
+package com.example.research.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+    private boolean enabled = false;
+    // Each shard hands out project/history ids from its own block so ids stay
+    // globally unique and rows can move between shards without renumbering
+    private long idBlockSize = 1_000_000_000_000L;
+    private List<String> migrationLocations = new ArrayList<>(List.of("classpath:db/migration"));
+    private List<Shard> shards = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getIdBlockSize() {
+        return idBlockSize;
+    }
+
+    public void setIdBlockSize(long idBlockSize) {
+        this.idBlockSize = idBlockSize;
+    }
+
+    public List<String> getMigrationLocations() {
+        return migrationLocations;
+    }
+
+    public void setMigrationLocations(List<String> migrationLocations) {
+        this.migrationLocations = migrationLocations;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public int getShardCount() {
+        return enabled && !shards.isEmpty() ? shards.size() : 1;
+    }
+
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public String getDriverClassName() {
+            return driverClassName;
+        }
+
+        public void setDriverClassName(String driverClassName) {
+            this.driverClassName = driverClassName;
+        }
+    }
+}
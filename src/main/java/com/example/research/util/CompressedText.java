@@ -0,0 +1,67 @@
+package com.example.research.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Raw deflate encoding for long text columns. The caller stores the UTF-8
+ * length alongside the compressed bytes so decoding can size its buffer
+ * exactly.
+ */
+public final class CompressedText {
+
+    private CompressedText() {
+    }
+
+    public static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static byte[] compress(byte[] utf8) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            // Incompressible input grows by a few bytes per 16KB block
+            byte[] out = new byte[utf8.length + utf8.length / 1000 + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            return Arrays.copyOf(out, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decompress(byte[] compressed, int utf8Length) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            byte[] out = new byte[utf8Length];
+            int length = 0;
+            while (length < utf8Length && !inflater.finished()) {
+                int read = inflater.inflate(out, length, utf8Length - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != utf8Length) {
+                throw new IllegalStateException("Compressed text is truncated: expected " + utf8Length
+                        + " bytes, got " + length);
+            }
+            return new String(out, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Compressed text is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.research.util;
+
+/**
+ * Token bucket rate limiter. Holds up to {@code capacity} tokens, refilled
+ * continuously at {@code refillPerSecond}. Thread safe.
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes the given number of tokens if they are available.
+     */
+    public synchronized boolean tryAcquire(double cost) {
+        refill();
+        if (tokens >= cost) {
+            tokens -= cost;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Blocks until the given number of tokens can be taken.
+     */
+    public void acquire(double cost) throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= cost) {
+                    tokens -= cost;
+                    return;
+                }
+                waitNanos = nanosUntil(cost);
+            }
+            Thread.sleep(Math.max(1, waitNanos / 1_000_000));
+        }
+    }
+
+    /**
+     * How long until the given number of tokens will be available.
+     */
+    public synchronized long nanosUntil(double cost) {
+        refill();
+        if (tokens >= cost) {
+            return 0;
+        }
+        return (long) Math.ceil((cost - tokens) / refillPerNano);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
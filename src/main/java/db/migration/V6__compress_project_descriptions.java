@@ -0,0 +1,109 @@
+package db.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Moves project descriptions out of the projects row into
+ * project_descriptions, deflated, and leaves a short summary column for
+ * listings. Written in Java because neither MySQL nor H2 has a deflate
+ * function the application can read back.
+ *
+ * Migrations are frozen, so the summary and deflate steps are copied here
+ * rather than called from the application: the output has to stay what
+ * Project.summarize and CompressedText produced when this version shipped
+ * (raw deflate at the default level, length stored as UTF-8 bytes).
+ */
+public class V6__compress_project_descriptions extends BaseJavaMigration {
+    private static final int BATCH_SIZE = 500;
+    private static final int SUMMARY_LENGTH = 200;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE project_descriptions ("
+                    + "project_id BIGINT PRIMARY KEY, "
+                    + "original_length INT NOT NULL, "
+                    + "content MEDIUMBLOB NOT NULL)");
+            statement.execute("ALTER TABLE projects ADD COLUMN summary VARCHAR(255)");
+        }
+
+        // Paged by id rather than streamed, as MySQL can't run the writes while a result is streaming
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, description FROM projects WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO project_descriptions (project_id, original_length, content) VALUES (?, ?, ?)");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE projects SET summary = ? WHERE id = ?")) {
+            long lastId = Long.MIN_VALUE;
+            int read;
+            do {
+                read = 0;
+                select.setLong(1, lastId);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        read++;
+                        lastId = rows.getLong(1);
+                        String description = rows.getString(2);
+                        if (description == null || description.isEmpty()) {
+                            continue;
+                        }
+                        byte[] utf8 = description.getBytes(StandardCharsets.UTF_8);
+                        insert.setLong(1, lastId);
+                        insert.setInt(2, utf8.length);
+                        insert.setBytes(3, compress(utf8));
+                        insert.addBatch();
+                        update.setString(1, summarize(description));
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                    }
+                }
+                insert.executeBatch();
+                update.executeBatch();
+            } while (read == BATCH_SIZE);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE projects DROP COLUMN description");
+        }
+    }
+
+    private static String summarize(String description) {
+        if (description.length() <= SUMMARY_LENGTH) {
+            return description;
+        }
+        int end = SUMMARY_LENGTH - 1;
+        if (Character.isHighSurrogate(description.charAt(end - 1))) {
+            end--;
+        }
+        return description.substring(0, end) + "\u2026";
+    }
+
+    private static byte[] compress(byte[] utf8) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            byte[] out = new byte[utf8.length + utf8.length / 1000 + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            return Arrays.copyOf(out, length);
+        } finally {
+            deflater.end();
+        }
+    }
+}
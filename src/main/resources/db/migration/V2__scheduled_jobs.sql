@@ -0,0 +1,21 @@
+-- Leases that let exactly one node run each scheduled job, plus the job's resume point
+CREATE TABLE job_leases (
+    job_name VARCHAR(100) PRIMARY KEY,
+    owner_node VARCHAR(255),
+    lease_until TIMESTAMP NULL,
+    checkpoint VARCHAR(255)
+);
+
+-- Run history for scheduled jobs
+CREATE TABLE job_runs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_name VARCHAR(100) NOT NULL,
+    node_id VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP NULL,
+    duration_ms BIGINT,
+    items_processed BIGINT NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000),
+    INDEX idx_job_runs_job_started (job_name, started_at)
+);
@@ -0,0 +1,27 @@
+-- Reviews live on the default shard next to users. project_id has no foreign key
+-- because the project may sit on another shard; its title is copied here so
+-- review listings never have to look projects up.
+CREATE TABLE reviews (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    project_title VARCHAR(255) NOT NULL,
+    reviewer_id BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    rating INT,
+    comments TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    submitted_at TIMESTAMP NULL,
+    FOREIGN KEY (reviewer_id) REFERENCES users(id),
+    INDEX idx_reviews_project (project_id, id),
+    INDEX idx_reviews_reviewer (reviewer_id, id)
+);
+
+-- Review counts per reviewer and status, kept in step with every review write.
+-- reviewer_id 0 holds the totals across all reviewers.
+CREATE TABLE review_counters (
+    reviewer_id BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    review_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (reviewer_id, status)
+);
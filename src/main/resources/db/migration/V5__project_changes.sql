@@ -0,0 +1,19 @@
+-- Change log behind GET /api/projects/changes. Like every migration this runs
+-- on each shard, and each shard logs the writes to its own projects.
+-- Each project write takes the next value from its shard's change_sequences;
+-- the row lock on the counter means sequence numbers become visible in commit
+-- order.
+CREATE TABLE change_sequences (
+    name VARCHAR(50) PRIMARY KEY,
+    seq_value BIGINT NOT NULL
+);
+
+INSERT INTO change_sequences (name, seq_value) VALUES ('projects', 0);
+
+CREATE TABLE project_changes (
+    seq BIGINT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    changed_at TIMESTAMP NOT NULL,
+    INDEX idx_project_changes_project (project_id, seq)
+);
@@ -0,0 +1,4 @@
+-- Each outbox poll claims its batch with one UPDATE tagged by a random token,
+-- then reads back the rows carrying that token
+ALTER TABLE email_outbox ADD COLUMN claim_token VARCHAR(36);
+CREATE INDEX idx_email_outbox_claim_token ON email_outbox (claim_token);
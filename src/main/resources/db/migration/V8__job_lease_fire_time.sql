@@ -0,0 +1,4 @@
+-- The cron fire time of the last run a node took the lease for. Every node
+-- computes the same fire times, so a node that fires late (clock skew) sees
+-- the fire already taken and skips it.
+ALTER TABLE job_leases ADD COLUMN last_fire_time TIMESTAMP(6) NULL;
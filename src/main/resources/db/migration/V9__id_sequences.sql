@@ -0,0 +1,13 @@
+-- Project and status history ids come from here rather than AUTO_INCREMENT.
+-- Resharding copies rows onto another shard with their original ids, and
+-- MySQL raises a table's AUTO_INCREMENT past any id inserted into it, so the
+-- target shard would go on to hand out ids from the source shard's block.
+-- seq_value is the last id handed out; ShardingConfig moves each shard's
+-- counters into that shard's id block.
+CREATE TABLE id_sequences (
+    name VARCHAR(50) PRIMARY KEY,
+    seq_value BIGINT NOT NULL
+);
+
+INSERT INTO id_sequences (name, seq_value) SELECT 'projects', COALESCE(MAX(id), 0) FROM projects;
+INSERT INTO id_sequences (name, seq_value) SELECT 'status_history', COALESCE(MAX(id), 0) FROM status_history;
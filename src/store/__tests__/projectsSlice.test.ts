@@ -2,6 +2,7 @@ import { configureStore } from '@reduxjs/toolkit';
 import type { Store, AnyAction } from '@reduxjs/toolkit';
 import projectsReducer, {
   fetchProjects,
+  syncProjects,
   updateProjectStatus,
   setStatusFilter,
   setSearchTerm,
@@ -75,7 +76,8 @@ describe('projects slice', () => {
       isLoading: false,
       error: null,
       statusFilter: 'ALL',
-      searchTerm: ''
+      searchTerm: '',
+      syncToken: null
     });
   });
 
@@ -138,6 +140,81 @@ describe('projects slice', () => {
     expect(state.items[0].status).toBe(ProjectStatus.COMPLETED);
   });
 
+  describe('delta sync', () => {
+    it('should load the full list on first sync', async () => {
+      mockFetch.mockResolvedValueOnce({
+        ok: true,
+        json: async () => ({ projects: mockProjects, deleted: [], token: '7', hasMore: false, fullSync: true })
+      });
+
+      await store.dispatch(syncProjects());
+      const state = store.getState().projects;
+
+      expect(mockFetch).toHaveBeenCalledWith('http://localhost:8080/api/projects/changes', expect.anything());
+      expect(state.items).toEqual(mockProjects);
+      expect(state.syncToken).toBe('7');
+    });
+
+    it('should apply changes and deletions since the last token', async () => {
+      mockFetch.mockResolvedValueOnce({
+        ok: true,
+        json: async () => ({ projects: mockProjects, deleted: [], token: '7', hasMore: false, fullSync: true })
+      });
+      await store.dispatch(syncProjects());
+
+      const updatedProject = { ...mockProjects[0], title: 'Renamed' };
+      mockFetch.mockResolvedValueOnce({
+        ok: true,
+        json: async () => ({ projects: [updatedProject], deleted: [2], token: '9', hasMore: false, fullSync: false })
+      });
+      await store.dispatch(syncProjects());
+      const state = store.getState().projects;
+
+      expect(mockFetch).toHaveBeenLastCalledWith('http://localhost:8080/api/projects/changes?since=7', expect.anything());
+      expect(state.items).toEqual([updatedProject]);
+      expect(state.syncToken).toBe('9');
+    });
+
+    it('should only show the loading state on the first sync', async () => {
+      mockFetch.mockImplementationOnce(() => new Promise(() => {})); // Never resolves
+      store.dispatch(syncProjects());
+      expect(store.getState().projects.isLoading).toBe(true);
+
+      store = configureStore({ reducer: { projects: projectsReducer } });
+      mockFetch.mockResolvedValueOnce({
+        ok: true,
+        json: async () => ({ projects: mockProjects, deleted: [], token: '7', hasMore: false, fullSync: true })
+      });
+      await store.dispatch(syncProjects());
+      expect(store.getState().projects.isLoading).toBe(false);
+
+      mockFetch.mockImplementationOnce(() => new Promise(() => {}));
+      store.dispatch(syncProjects());
+      expect(store.getState().projects.isLoading).toBe(false);
+    });
+
+    it('should start over with a full sync when the token is refused', async () => {
+      mockFetch.mockResolvedValueOnce({
+        ok: true,
+        json: async () => ({ projects: mockProjects, deleted: [], token: '7', hasMore: false, fullSync: true })
+      });
+      await store.dispatch(syncProjects());
+
+      mockFetch.mockResolvedValueOnce({ ok: false, status: 400 });
+      mockFetch.mockResolvedValueOnce({
+        ok: true,
+        json: async () => ({ projects: [mockProjects[1]], deleted: [], token: '3.0.4', hasMore: false, fullSync: true })
+      });
+      await store.dispatch(syncProjects());
+      const state = store.getState().projects;
+
+      expect(mockFetch).toHaveBeenLastCalledWith('http://localhost:8080/api/projects/changes', expect.anything());
+      expect(state.items).toEqual([mockProjects[1]]);
+      expect(state.syncToken).toBe('3.0.4');
+      expect(state.error).toBeNull();
+    });
+  });
+
   describe('filtering and search', () => {
     beforeEach(async () => {
       mockFetch.mockResolvedValueOnce({
@@ -182,6 +259,23 @@ describe('projects slice', () => {
       expect(filteredProjects[0].description).toContain('Description 2');
     });
 
+    it('should search the summary of listed projects without a description', async () => {
+      const listedProjects = mockProjects.map(({ description, ...project }) => ({
+        ...project,
+        summary: description
+      }));
+      mockFetch.mockResolvedValueOnce({
+        ok: true,
+        json: async () => listedProjects
+      });
+      await store.dispatch(fetchProjects());
+      store.dispatch(setSearchTerm('Description 2'));
+      const filteredProjects = selectFilteredProjects(store.getState());
+
+      expect(filteredProjects).toHaveLength(1);
+      expect(filteredProjects[0].summary).toBe('Test Description 2');
+    });
+
     it('should combine status and search filters', () => {
       store.dispatch(setStatusFilter(ProjectStatus.IN_PROGRESS));
       store.dispatch(setSearchTerm('Project 1'));
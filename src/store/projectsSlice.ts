@@ -8,6 +8,15 @@ interface ProjectsState {
   error: string | null;
   statusFilter: ProjectStatus | 'ALL';
   searchTerm: string;
+  syncToken: string | null;
+}
+
+interface ProjectChanges {
+  projects: Project[];
+  deleted: number[];
+  token: string;
+  hasMore: boolean;
+  fullSync: boolean;
 }
 
 const initialState: ProjectsState = {
@@ -16,6 +25,7 @@ const initialState: ProjectsState = {
   error: null,
   statusFilter: 'ALL',
   searchTerm: '',
+  syncToken: null,
 };
 
 export const fetchProjects = createAsyncThunk(
@@ -36,6 +46,39 @@ export const fetchProjects = createAsyncThunk(
   }
 );
 
+// Fetches only what changed since the last sync; the first call returns the full list
+export const syncProjects = createAsyncThunk<ProjectChanges[], void, { state: RootState; rejectValue: string }>(
+  'projects/sync',
+  async (_, { getState, rejectWithValue }) => {
+    try {
+      const pages: ProjectChanges[] = [];
+      let token = getState().projects.syncToken;
+      let hasMore = true;
+      while (hasMore) {
+        const query = token ? `?since=${encodeURIComponent(token)}` : '';
+        const response = await fetch(`http://localhost:8080/api/projects/changes${query}`, {
+          credentials: 'include'
+        });
+        // A token from before the shard count changed is refused; start over with a full sync
+        if (response.status === 400 && token) {
+          token = null;
+          continue;
+        }
+        if (!response.ok) {
+          throw new Error(`HTTP error! status: ${response.status}`);
+        }
+        const page: ProjectChanges = await response.json();
+        pages.push(page);
+        token = page.token;
+        hasMore = page.hasMore;
+      }
+      return pages;
+    } catch (error) {
+      return rejectWithValue((error as Error).message);
+    }
+  }
+);
+
 export const updateProjectStatus = createAsyncThunk(
   'projects/updateStatus',
   async ({ projectId, status }: { projectId: number; status: ProjectStatus }, { rejectWithValue }) => {
@@ -175,6 +218,37 @@ const projectsSlice = createSlice({
         state.isLoading = false;
         state.error = action.payload as string || 'Failed to fetch projects';
       })
+      .addCase(syncProjects.pending, (state) => {
+        // Only the first sync shows the spinner; polls update the list in place
+        if (state.syncToken === null) {
+          state.isLoading = true;
+        }
+        state.error = null;
+      })
+      .addCase(syncProjects.fulfilled, (state, action) => {
+        state.isLoading = false;
+        for (const page of action.payload) {
+          if (page.fullSync) {
+            state.items = page.projects;
+          } else {
+            const deleted = new Set(page.deleted);
+            state.items = state.items.filter(project => !deleted.has(project.id));
+            for (const changed of page.projects) {
+              const index = state.items.findIndex(project => project.id === changed.id);
+              if (index !== -1) {
+                state.items[index] = changed;
+              } else {
+                state.items.push(changed);
+              }
+            }
+          }
+          state.syncToken = page.token;
+        }
+      })
+      .addCase(syncProjects.rejected, (state, action) => {
+        state.isLoading = false;
+        state.error = action.payload as string || 'Failed to sync projects';
+      })
       .addCase(updateProjectStatus.fulfilled, (state, action) => {
         const updatedProject = action.payload;
         const index = state.items.findIndex(project => project.id === updatedProject.id);
@@ -240,7 +314,7 @@ export const selectFilteredProjects = (state: RootState) => {
   return items.filter(project => {
     const matchesStatus = statusFilter === 'ALL' || project.status === statusFilter;
     const matchesSearch = project.title.toLowerCase().includes(searchTerm.toLowerCase()) ||
-                         project.description.toLowerCase().includes(searchTerm.toLowerCase());
+                         (project.description ?? project.summary ?? '').toLowerCase().includes(searchTerm.toLowerCase());
     return matchesStatus && matchesSearch;
   });
 };
@@ -0,0 +1,160 @@
+package com.example.research.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.research.config.WebConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServlet;
+
+class AdmissionFilterTest {
+
+    private AdmissionProperties properties;
+    private DatabasePoolMonitor poolMonitor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionProperties();
+        properties.setBucketCapacity(20);
+        properties.setRefillPerSecond(0.001);
+        AdmissionProperties.EndpointClass scans = new AdmissionProperties.EndpointClass();
+        scans.setName("project-scans");
+        scans.setPatterns(List.of("GET /api/projects"));
+        scans.setCost(10);
+        scans.setMaxConcurrent(1);
+        scans.setShedWhenPoolSaturated(true);
+        properties.setEndpointClasses(List.of(scans));
+        poolMonitor = mock(DatabasePoolMonitor.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void chargesTheEndpointClassCostAgainstTheClient() throws Exception {
+        AdmissionFilter filter = filter();
+
+        assertThat(send(filter, get("/api/projects", "10.0.0.1")).getStatus()).isEqualTo(200);
+        assertThat(send(filter, get("/api/projects", "10.0.0.1")).getStatus()).isEqualTo(200);
+        MockHttpServletResponse limited = send(filter, get("/api/projects", "10.0.0.1"));
+
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isNotNull();
+        assertThat(send(filter, get("/api/projects", "10.0.0.2")).getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.counter("admission.rejected", "class", "project-scans", "reason", "rate_limited")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void rotatingTheClientHeaderDoesNotGetAFreshBucket() throws Exception {
+        AdmissionFilter filter = filter();
+        int admitted = 0;
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = get("/api/projects", "10.0.0.1");
+            request.addHeader("X-Forwarded-For", "client-" + i);
+            if (send(filter, request).getStatus() == 200) {
+                admitted++;
+            }
+        }
+        assertThat(admitted).isEqualTo(2);
+    }
+
+    @Test
+    void clientHeaderIsOnlyTrustedFromConfiguredProxies() {
+        properties.setTrustedProxies(List.of("10.0.0.9"));
+        AdmissionFilter filter = filter();
+
+        MockHttpServletRequest viaProxy = get("/api/projects", "10.0.0.9");
+        viaProxy.addHeader("X-Forwarded-For", "spoofed, 192.168.1.5");
+        MockHttpServletRequest direct = get("/api/projects", "10.0.0.1");
+        direct.addHeader("X-Forwarded-For", "192.168.1.5");
+
+        assertThat(filter.clientKey(viaProxy)).isEqualTo("addr:192.168.1.5");
+        assertThat(filter.clientKey(direct)).isEqualTo("addr:10.0.0.1");
+    }
+
+    @Test
+    void clientsPastTheCapShareOneBucket() throws Exception {
+        properties.setMaxBuckets(1);
+        AdmissionFilter filter = filter();
+
+        assertThat(send(filter, get("/api/projects", "10.0.0.1")).getStatus()).isEqualTo(200);
+        assertThat(send(filter, get("/api/projects", "10.0.0.2")).getStatus()).isEqualTo(200);
+        assertThat(send(filter, get("/api/projects", "10.0.0.3")).getStatus()).isEqualTo(200);
+        assertThat(send(filter, get("/api/projects", "10.0.0.4")).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void shedsPoolHeavyClassesWhileThePoolHasWaiters() throws Exception {
+        when(poolMonitor.isSaturated()).thenReturn(true);
+        AdmissionFilter filter = filter();
+
+        assertThat(send(filter, get("/api/projects", "10.0.0.1")).getStatus()).isEqualTo(503);
+        assertThat(send(filter, get("/api/users", "10.0.0.1")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void fullSyncIsAdmittedAsAProjectScan() throws Exception {
+        // The shipped classes, since a sync without a token reads every project on every shard
+        properties = new Binder(new MapConfigurationPropertySource(
+                PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"))))
+                .bind("admission", AdmissionProperties.class)
+                .get();
+        when(poolMonitor.isSaturated()).thenReturn(true);
+        AdmissionFilter filter = filter();
+
+        assertThat(send(filter, get("/api/projects/changes", "10.0.0.1")).getStatus()).isEqualTo(503);
+        assertThat(meterRegistry.counter("admission.rejected", "class", "project-scans", "reason", "pool_saturated")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectionsCarryCorsHeadersForTheBrowser() throws Exception {
+        properties.setBucketCapacity(10);
+        Filter cors = new WebConfig().corsFilter().getFilter();
+        AdmissionFilter filter = filter();
+
+        MockHttpServletRequest first = get("/api/projects", "10.0.0.1");
+        first.addHeader("Origin", "http://localhost:5173");
+        new MockFilterChain(new HttpServlet() { }, cors, filter).doFilter(first, new MockHttpServletResponse());
+        MockHttpServletRequest second = get("/api/projects", "10.0.0.1");
+        second.addHeader("Origin", "http://localhost:5173");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() { }, cors, filter).doFilter(second, response);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Access-Control-Allow-Origin")).isEqualTo("http://localhost:5173");
+        assertThat(response.getHeader("Access-Control-Expose-Headers")).contains("Retry-After");
+    }
+
+    private AdmissionFilter filter() {
+        return new AdmissionFilter(properties, poolMonitor, meterRegistry);
+    }
+
+    private static MockHttpServletRequest get(String uri, String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+
+    private static MockHttpServletResponse send(AdmissionFilter filter, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
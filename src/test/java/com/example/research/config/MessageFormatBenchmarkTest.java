@@ -0,0 +1,228 @@
+package com.example.research.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.research.dto.DashboardStatsDTO;
+import com.example.research.dto.StatusChangeDTO;
+import com.example.research.dto.UpcomingDeadlineDTO;
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.Project;
+import com.example.research.model.ProjectStatus;
+import com.example.research.model.StatusHistory;
+import com.example.research.model.User;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Encode/decode time and payload size of the project listing, the dashboard
+ * stats and a status change feed in JSON, CBOR and Smile, using the mappers
+ * WebConfig registers. Each binary format must decode to the same value as
+ * JSON.
+ *
+ * Tagged "benchmark" so the default build skips it; run it with
+ * {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+class MessageFormatBenchmarkTest {
+    private static final Logger logger = LoggerFactory.getLogger(MessageFormatBenchmarkTest.class);
+
+    private static final int PROJECTS = 500;
+    private static final int STATUS_CHANGES = 1000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 200;
+    private static final TypeReference<List<Project>> PROJECT_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<DashboardStatsDTO> DASHBOARD_STATS = new TypeReference<>() {
+    };
+    private static final TypeReference<List<StatusChangeDTO>> STATUS_CHANGE_LIST = new TypeReference<>() {
+    };
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+
+    @BeforeEach
+    void registerConverters() {
+        jsonMapper = bootDefaults().build();
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new MappingJackson2HttpMessageConverter(jsonMapper));
+        WebConfig webConfig = new WebConfig();
+        ReflectionTestUtils.setField(webConfig, "objectMapperBuilder", bootDefaults());
+        webConfig.extendMessageConverters(converters);
+
+        cborMapper = mapper(converters, MappingJackson2CborHttpMessageConverter.class);
+        smileMapper = mapper(converters, MappingJackson2SmileHttpMessageConverter.class);
+    }
+
+    @Test
+    void projectListRoundTripsAndIsSmallerThanJson() throws Exception {
+        compareFormats(PROJECTS + " projects", sampleProjects(), PROJECT_LIST);
+    }
+
+    @Test
+    void dashboardStatsRoundTripAndAreSmallerThanJson() throws Exception {
+        compareFormats("dashboard stats", sampleDashboardStats(), DASHBOARD_STATS);
+    }
+
+    @Test
+    void statusChangesRoundTripAndAreSmallerThanJson() throws Exception {
+        compareFormats(STATUS_CHANGES + " status changes", sampleStatusChanges(STATUS_CHANGES),
+                STATUS_CHANGE_LIST);
+    }
+
+    private <T> void compareFormats(String payload, T value, TypeReference<T> type) throws Exception {
+        String expected = jsonMapper.writeValueAsString(jsonMapper.readValue(
+                jsonMapper.writeValueAsBytes(value), type));
+
+        Result<T> json = measure("JSON", jsonMapper, value, type);
+        Result<T> cbor = measure("CBOR", cborMapper, value, type);
+        Result<T> smile = measure("Smile", smileMapper, value, type);
+
+        for (Result<T> result : List.of(json, cbor, smile)) {
+            assertThat(jsonMapper.writeValueAsString(result.decoded())).isEqualTo(expected);
+            logger.info("{} as {}: {} bytes ({}% of JSON), encode {} us, decode {} us",
+                    payload, result.format(), result.size(), result.size() * 100 / json.size(),
+                    result.encodeMicros(), result.decodeMicros());
+        }
+        assertThat(cbor.size()).isLessThan(json.size());
+        assertThat(smile.size()).isLessThan(json.size());
+    }
+
+    // What Boot's auto-configured builder adds on top of Spring's defaults
+    private static Jackson2ObjectMapperBuilder bootDefaults() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static ObjectMapper mapper(List<HttpMessageConverter<?>> converters, Class<?> type) {
+        return converters.stream()
+                .filter(type::isInstance)
+                .map(converter -> ((AbstractJackson2HttpMessageConverter) converter)
+                        .getObjectMapper())
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + type.getSimpleName() + " registered"));
+    }
+
+    private static <T> Result<T> measure(String format, ObjectMapper mapper, T value, TypeReference<T> type)
+            throws Exception {
+        byte[] encoded = mapper.writeValueAsBytes(value);
+        T decoded = mapper.readValue(encoded, type);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(value), type);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            encoded = mapper.writeValueAsBytes(value);
+        }
+        long encodeNanos = (System.nanoTime() - start) / MEASURED_ROUNDS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            decoded = mapper.readValue(encoded, type);
+        }
+        long decodeNanos = (System.nanoTime() - start) / MEASURED_ROUNDS;
+
+        return new Result<>(format, encoded.length, encodeNanos / 1000, decodeNanos / 1000, decoded);
+    }
+
+    // Shaped like GET /api/projects: owner, summary and a few history entries each
+    private static List<Project> sampleProjects() {
+        List<Project> projects = new ArrayList<>();
+        ProjectStatus[] statuses = ProjectStatus.values();
+        for (int i = 1; i <= PROJECTS; i++) {
+            User owner = new User();
+            owner.setId((long) (i % 20 + 1));
+            owner.setUsername("researcher" + owner.getId());
+            owner.setEmail("researcher" + owner.getId() + "@university.edu");
+            owner.setFirstName("Research");
+            owner.setLastName("User " + owner.getId());
+            owner.setDepartment("Computer Science");
+            owner.setInstitution("University Research Center");
+            owner.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusDays(owner.getId()));
+            owner.setUpdatedAt(owner.getCreatedAt());
+
+            Project project = new Project();
+            project.setId((long) i);
+            project.setTitle("Research project " + i);
+            project.setSummary("Analysis of experimental results from phase " + i
+                    + ", covering data collection, statistical evaluation and publication planning.");
+            project.setStatus(statuses[i % statuses.length]);
+            project.setStartDate(LocalDate.of(2024, 1, 1).plusDays(i));
+            project.setEndDate(project.getStartDate().plusMonths(6));
+            project.setDeadline(project.getEndDate().minusDays(7));
+            project.setDeadlineStatus(DeadlineStatus.ON_TRACK);
+            project.setOwner(owner);
+            project.setCreatedAt(project.getStartDate());
+            project.setUpdatedAt(project.getStartDate().plusDays(3));
+            for (int h = 0; h < 3; h++) {
+                project.addStatusHistory(statuses[h], statuses[h + 1], owner);
+                StatusHistory history = project.getStatusHistory().get(h);
+                history.setId((long) (i * 10 + h));
+                history.setChangedAt(LocalDateTime.of(2024, 2, 1, 12, 0).plusHours(i + h));
+            }
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    // Shaped like GET /api/dashboard
+    private static DashboardStatsDTO sampleDashboardStats() {
+        DashboardStatsDTO stats = new DashboardStatsDTO();
+        stats.setTotalUsers(1200);
+        stats.setActiveProjects(430);
+        stats.setPendingReviews(57);
+        stats.setCompletedReviews(912);
+        stats.setRecentStatusChanges(sampleStatusChanges(10));
+        List<UpcomingDeadlineDTO> deadlines = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            UpcomingDeadlineDTO deadline = new UpcomingDeadlineDTO();
+            deadline.setProjectId((long) i);
+            deadline.setProjectTitle("Research project " + i);
+            deadline.setDeadline(LocalDate.of(2024, 6, 1).plusDays(i));
+            deadline.setDaysUntilDeadline(i);
+            deadline.setStatus(DeadlineStatus.APPROACHING.name());
+            deadlines.add(deadline);
+        }
+        stats.setUpcomingDeadlines(deadlines);
+        return stats;
+    }
+
+    private static List<StatusChangeDTO> sampleStatusChanges(int count) {
+        List<StatusChangeDTO> changes = new ArrayList<>();
+        ProjectStatus[] statuses = ProjectStatus.values();
+        for (int i = 1; i <= count; i++) {
+            StatusChangeDTO change = new StatusChangeDTO();
+            change.setProjectId((long) i);
+            change.setProjectTitle("Research project " + i);
+            change.setOldStatus(statuses[i % statuses.length]);
+            change.setNewStatus(statuses[(i + 1) % statuses.length]);
+            change.setChangedAt(LocalDateTime.of(2024, 2, 1, 12, 0).plusMinutes(i));
+            change.setChangedBy("researcher" + (i % 20 + 1));
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private record Result<T>(String format, int size, long encodeMicros, long decodeMicros, T decoded) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.research.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import com.example.research.dto.ProjectChangesDTO;
+import com.example.research.model.Project;
+import com.example.research.model.ProjectStatus;
+import com.example.research.model.User;
+import com.example.research.repository.ProjectChangeRepository;
+import com.example.research.repository.UserRepository;
+import com.example.research.service.ProjectChangeService;
+import com.example.research.sharding.ShardedProjectStore;
+
+/**
+ * Drives GET /api/projects/changes through the controller the way a polling
+ * client would.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ProjectChangesEndpointTest {
+
+    @Autowired
+    private ProjectController projectController;
+
+    @Autowired
+    private ProjectChangeService changeService;
+
+    @Autowired
+    private ShardedProjectStore projectStore;
+
+    @Autowired
+    private ProjectChangeRepository changeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void clearChangeLog() {
+        // Other tests write rows with made-up seqs to the shared database
+        changeRepository.deleteAll();
+    }
+
+    @Test
+    void pollingReturnsWritesSinceTheToken() {
+        ProjectChangesDTO full = changes(null);
+        assertThat(full.isFullSync()).isTrue();
+
+        Project created = projectController.createProject(newProject("Created")).getBody();
+        Project updated = projectController.createProject(newProject("Updated")).getBody();
+        Project deleted = projectController.createProject(newProject("Deleted")).getBody();
+        updated.setTitle("Renamed");
+        projectController.updateProject(updated.getId(), updated);
+        projectController.deleteProject(deleted.getId());
+
+        ProjectChangesDTO delta = changes(full.getToken());
+        assertThat(delta.isFullSync()).isFalse();
+        assertThat(delta.getProjects()).extracting(Project::getId)
+                .containsExactlyInAnyOrder(created.getId(), updated.getId());
+        assertThat(delta.getProjects()).filteredOn(project -> project.getId().equals(updated.getId()))
+                .extracting(Project::getTitle).containsExactly("Renamed");
+        assertThat(delta.getDeleted()).containsExactly(deleted.getId());
+
+        // Nothing new since the returned token
+        ProjectChangesDTO quiet = changes(delta.getToken());
+        assertThat(quiet.getProjects()).isEmpty();
+        assertThat(quiet.getDeleted()).isEmpty();
+        assertThat(quiet.getToken()).isEqualTo(delta.getToken());
+    }
+
+    @Test
+    void longBacklogsArePaged() {
+        String token = changes(null).getToken();
+        for (int i = 0; i < 3; i++) {
+            projectController.createProject(newProject("Paged " + i));
+        }
+        ReflectionTestUtils.setField(changeService, "pageSize", 2);
+        try {
+            ProjectChangesDTO first = changes(token);
+            assertThat(first.getProjects()).hasSize(2);
+            assertThat(first.isHasMore()).isTrue();
+
+            ProjectChangesDTO second = changes(first.getToken());
+            assertThat(second.getProjects()).hasSize(1);
+            assertThat(second.isHasMore()).isFalse();
+        } finally {
+            ReflectionTestUtils.setField(changeService, "pageSize", 500);
+        }
+    }
+
+    @Test
+    void rejectsAMalformedToken() {
+        ResponseEntity<?> response = projectController.getProjectChanges("not-a-token");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void aFailedWriteRecordsNoChangeAndAChangeNeedsTheWrite() {
+        String token = changes(null).getToken();
+        Project project = newProject("Rolled back");
+
+        assertThatThrownBy(() -> projectStore.save(project, saved -> {
+            throw new IllegalStateException("after the insert");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> changeService.recordUpdate(1L))
+                .isInstanceOf(IllegalTransactionStateException.class);
+
+        ProjectChangesDTO delta = changes(token);
+        assertThat(delta.getProjects()).isEmpty();
+        assertThat(delta.getToken()).isEqualTo(token);
+    }
+
+    private ProjectChangesDTO changes(String since) {
+        ResponseEntity<?> response = projectController.getProjectChanges(since);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return (ProjectChangesDTO) response.getBody();
+    }
+
+    private Project newProject(String title) {
+        User owner = new User();
+        String name = "changes-" + UUID.randomUUID();
+        owner.setUsername(name);
+        owner.setEmail(name + "@example.com");
+        owner.setPassword("secret");
+
+        Project project = new Project();
+        project.setTitle(title);
+        project.setDescription(title + " description");
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setOwner(userRepository.save(owner));
+        return project;
+    }
+}
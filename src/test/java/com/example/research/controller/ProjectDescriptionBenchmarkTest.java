@@ -0,0 +1,178 @@
+package com.example.research.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.research.model.Project;
+import com.example.research.model.ProjectStatus;
+import com.example.research.model.User;
+import com.example.research.repository.UserRepository;
+import com.example.research.sharding.ShardedProjectStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Storage size and response size/time of project descriptions kept deflated
+ * in project_descriptions. 2,000 projects get English-like descriptions
+ * averaging about 8 KB, one in ten between 20 and 60 KB. Compares the
+ * listing as served (summaries only) with the same projects carrying their
+ * full text, which is what GET /api/projects returned before, and times the
+ * detail view that loads the text back.
+ *
+ * Tagged "benchmark" so the default build skips it; run it with
+ * {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ProjectDescriptionBenchmarkTest {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectDescriptionBenchmarkTest.class);
+
+    private static final int PROJECTS = 2000;
+    private static final int LISTING_ROUNDS = 20;
+    private static final int DETAIL_ROUNDS = 500;
+    private static final String[] WORDS = ("the of and to in a is that for on with as by this are from be at "
+            + "results data analysis study research method sample model experiment measured observed "
+            + "significant effect variable population survey protocol laboratory participants funding "
+            + "hypothesis evaluation statistical collection phase publication review approach framework "
+            + "preliminary findings suggest further investigation required across multiple conditions").split(" ");
+
+    @Autowired
+    private ProjectController projectController;
+
+    @Autowired
+    private ShardedProjectStore projectStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Project> created = new ArrayList<>();
+
+    @AfterEach
+    void removeProjects() {
+        created.forEach(projectStore::delete);
+    }
+
+    @Test
+    void descriptionsAreStoredCompressedAndLeftOutOfListings() throws Exception {
+        Random random = new Random(42);
+        User owner = newOwner();
+        Map<Long, String> descriptions = new HashMap<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            int length = i % 10 == 0 ? 20_000 + random.nextInt(40_000) : 1_000 + random.nextInt(7_000);
+            Project project = new Project();
+            project.setTitle("Benchmark project " + i);
+            project.setDescription(description(random, length));
+            project.setStatus(ProjectStatus.PENDING);
+            project.setOwner(owner);
+            Project saved = projectStore.save(project);
+            created.add(saved);
+            descriptions.put(saved.getId(), project.getDescription());
+        }
+
+        long originalBytes = sum("SELECT SUM(original_length) FROM project_descriptions d "
+                + "JOIN projects p ON p.id = d.project_id WHERE p.owner_id = ?", owner.getId());
+        long storedBytes = sum("SELECT SUM(LENGTH(content)) FROM project_descriptions d "
+                + "JOIN projects p ON p.id = d.project_id WHERE p.owner_id = ?", owner.getId());
+        long summaryBytes = sum("SELECT SUM(LENGTH(summary)) FROM projects WHERE owner_id = ?", owner.getId());
+        logger.info("{} descriptions: {} bytes per description as UTF-8, {} stored ({}x smaller), "
+                + "{} bytes of summary per projects row",
+                PROJECTS, originalBytes / PROJECTS, storedBytes / PROJECTS,
+                String.format("%.1f", (double) originalBytes / storedBytes), summaryBytes / PROJECTS);
+        assertThat(storedBytes).isLessThan(originalBytes);
+
+        // Every description reads back exactly, with the summary taken from it
+        for (Project project : created) {
+            Project loaded = projectController.getProjectById(project.getId()).getBody();
+            assertThat(loaded.getDescription()).isEqualTo(descriptions.get(project.getId()));
+            assertThat(loaded.getSummary()).isEqualTo(Project.summarize(loaded.getDescription()));
+        }
+
+        List<Project> listing = projectController.getAllProjects();
+        assertThat(listing).allMatch(project -> project.getDescription() == null);
+        byte[] served = objectMapper.writeValueAsBytes(listing);
+        listing.forEach(project -> project.loadDescription(descriptions.get(project.getId())));
+        byte[] withDescriptions = objectMapper.writeValueAsBytes(listing);
+        logger.info("GET /api/projects body: {} bytes with descriptions, {} bytes with summaries",
+                withDescriptions.length, served.length);
+        assertThat(served.length).isLessThan(withDescriptions.length);
+
+        long listingMicros = median(LISTING_ROUNDS,
+                () -> objectMapper.writeValueAsBytes(projectController.getAllProjects()));
+        long byStatusMicros = median(LISTING_ROUNDS,
+                () -> objectMapper.writeValueAsBytes(projectController.getProjectsByStatus(ProjectStatus.PENDING)));
+        long detailMicros = median(DETAIL_ROUNDS, () -> objectMapper.writeValueAsBytes(
+                projectController.getProjectById(created.get(random.nextInt(PROJECTS)).getId()).getBody()));
+        logger.info("Median GET /api/projects {} us, GET /api/projects/status/PENDING {} us, "
+                + "GET /api/projects/:id with description {} us",
+                listingMicros, byStatusMicros, detailMicros);
+    }
+
+    private long sum(String sql, Long ownerId) {
+        Long sum = jdbcTemplate.queryForObject(sql, Long.class, ownerId);
+        return sum != null ? sum : 0L;
+    }
+
+    private static long median(int rounds, ThrowingSupplier action) throws Exception {
+        long[] micros = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            action.get();
+            micros[i] = (System.nanoTime() - start) / 1000;
+        }
+        Arrays.sort(micros);
+        return micros[rounds / 2];
+    }
+
+    private static String description(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 16);
+        int sentence = 0;
+        while (text.length() < length) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            text.append(sentence == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+            if (++sentence > 8 + random.nextInt(12)) {
+                text.append(". ");
+                sentence = 0;
+            } else {
+                text.append(' ');
+            }
+        }
+        return text.toString();
+    }
+
+    private User newOwner() {
+        User owner = new User();
+        String name = "descriptions-" + UUID.randomUUID();
+        owner.setUsername(name);
+        owner.setEmail(name + "@example.com");
+        owner.setPassword("secret");
+        return userRepository.save(owner);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        Object get() throws Exception;
+    }
+}
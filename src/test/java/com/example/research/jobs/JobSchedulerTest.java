@@ -0,0 +1,290 @@
+package com.example.research.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.JobLease;
+import com.example.research.model.JobRun;
+import com.example.research.model.JobRunStatus;
+import com.example.research.model.Project;
+import com.example.research.model.ProjectChange;
+import com.example.research.model.ProjectChangeType;
+import com.example.research.model.ProjectStatus;
+import com.example.research.repository.JobLeaseRepository;
+import com.example.research.repository.JobRunRepository;
+import com.example.research.repository.ProjectChangeRepository;
+import com.example.research.repository.ProjectRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class JobSchedulerTest {
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeadlineStatusJob deadlineStatusJob;
+
+    @Autowired
+    private ProjectChangeCompactionJob compactionJob;
+
+    @Autowired
+    private ProjectChangeRepository changeRepository;
+
+    @Test
+    void contendedLeaseGoesToExactlyOneNode() throws Exception {
+        String jobName = "contended";
+        createLease(jobName);
+        ExecutorService nodes = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 20; round++) {
+                LocalDateTime fireTime = LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(round);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> attempts = new ArrayList<>();
+                for (int node = 0; node < 4; node++) {
+                    String nodeId = "node-" + round + "-" + node;
+                    Callable<Integer> attempt = () -> {
+                        start.await();
+                        LocalDateTime now = LocalDateTime.now();
+                        return jobLeaseRepository.tryAcquire(jobName, nodeId, fireTime, now, now.plusMinutes(5));
+                    };
+                    attempts.add(nodes.submit(attempt));
+                }
+                start.countDown();
+                int winners = 0;
+                for (Future<Integer> attempt : attempts) {
+                    winners += attempt.get();
+                }
+                assertThat(winners).as("winners in round %d", round).isEqualTo(1);
+
+                String owner = jobLeaseRepository.findById(jobName).orElseThrow().getOwnerNode();
+                assertThat(jobLeaseRepository.release(jobName, owner)).isEqualTo(1);
+            }
+        } finally {
+            nodes.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverAndTheOldOwnerCannotRenew() {
+        String jobName = "expiring";
+        createLease(jobName);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(jobLeaseRepository.tryAcquire(jobName, "a", now, now, now.plusMinutes(5))).isEqualTo(1);
+        assertThat(jobLeaseRepository.tryAcquire(jobName, "b", now.plusMinutes(1), now.plusMinutes(1),
+                now.plusMinutes(6))).isZero();
+        assertThat(jobLeaseRepository.renew(jobName, "a", now.plusMinutes(10), "x")).isEqualTo(1);
+
+        LocalDateTime afterExpiry = now.plusMinutes(11);
+        assertThat(jobLeaseRepository.tryAcquire(jobName, "b", afterExpiry, afterExpiry, afterExpiry.plusMinutes(5)))
+                .isEqualTo(1);
+        assertThat(jobLeaseRepository.renew(jobName, "a", afterExpiry.plusMinutes(5), "y")).isZero();
+        assertThat(jobLeaseRepository.release(jobName, "a")).isZero();
+        assertThat(jobLeaseRepository.findById(jobName)).map(JobLease::getOwnerNode).contains("b");
+    }
+
+    @Test
+    void fireAlreadyRunIsSkippedByANodeThatFiresLate() {
+        LocalDateTime fireTime = LocalDateTime.now().withNano(0);
+        CountingJob job = new CountingJob("late-fire", 3, 3, chunk -> false);
+        jobScheduler.runJob(job, fireTime);
+        assertThat(job.checkpoints).containsExactly((String) null);
+        assertThat(jobLeaseRepository.findById(job.getName()).orElseThrow().getLeaseUntil()).isNull();
+
+        // The run has released the lease; a second node's trigger for the same fire arrives
+        assertThat(jobLeaseRepository.tryAcquire(job.getName(), "late-node", fireTime,
+                LocalDateTime.now(), LocalDateTime.now().plusMinutes(5))).isZero();
+        jobScheduler.runJob(job, fireTime);
+        assertThat(job.checkpoints).containsExactly((String) null);
+
+        jobScheduler.runJob(job, fireTime.plusHours(1));
+        assertThat(job.checkpoints).containsExactly(null, null);
+        assertThat(jobLeaseRepository.findById(job.getName()).orElseThrow().getLastFireTime())
+                .isEqualTo(fireTime.plusHours(1));
+    }
+
+    @Test
+    void failedRunResumesFromItsCheckpoint() {
+        CountingJob job = new CountingJob("resumable", 10, 3, chunk -> chunk == 3);
+        jobScheduler.runJob(job);
+
+        assertThat(lastRun(job).getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(lastRun(job).getItemsProcessed()).isEqualTo(6);
+        assertThat(jobLeaseRepository.findById(job.getName()).orElseThrow().getCheckpoint()).isEqualTo("6");
+
+        job.failWhen = chunk -> false;
+        jobScheduler.runJob(job);
+
+        assertThat(job.checkpoints).containsExactly(null, "3", "6", "6", "9");
+        assertThat(lastRun(job).getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(lastRun(job).getItemsProcessed()).isEqualTo(4);
+        JobLease lease = jobLeaseRepository.findById(job.getName()).orElseThrow();
+        assertThat(lease.getCheckpoint()).isNull();
+        assertThat(lease.getLeaseUntil()).isNull();
+    }
+
+    @Test
+    void runStopsWhenAnotherNodeTakesTheLease() {
+        CountingJob job = new CountingJob("stolen", 10, 3, chunk -> false);
+        job.afterChunk = chunk -> {
+            if (chunk == 1) {
+                LocalDateTime later = LocalDateTime.now().plusHours(1);
+                jobLeaseRepository.tryAcquire("stolen", "other-node", later, later, later.plusMinutes(5));
+            }
+        };
+        jobScheduler.runJob(job);
+
+        assertThat(job.checkpoints).containsExactly((String) null);
+        assertThat(lastRun(job).getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(lastRun(job).getErrorMessage()).contains("Lease lost");
+        assertThat(jobLeaseRepository.findById(job.getName())).map(JobLease::getOwnerNode).contains("other-node");
+    }
+
+    @Test
+    void leaseHeldByAnotherNodeSkipsTheTrigger() {
+        CountingJob job = new CountingJob("held", 3, 3, chunk -> false);
+        createLease(job.getName());
+        LocalDateTime now = LocalDateTime.now();
+        jobLeaseRepository.tryAcquire(job.getName(), "other-node", now, now, now.plusMinutes(5));
+
+        jobScheduler.runJob(job);
+
+        assertThat(job.checkpoints).isEmpty();
+        assertThat(jobRunRepository.findTop20ByJobNameOrderByStartedAtDesc(job.getName())).isEmpty();
+    }
+
+    @Test
+    void deadlineStatusJobWalksProjectsInChunks() {
+        ReflectionTestUtils.setField(deadlineStatusJob, "chunkSize", 2);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Project project = new Project();
+            project.setTitle("Deadline " + i);
+            project.setStatus(ProjectStatus.IN_PROGRESS);
+            project.setDeadline(LocalDate.now().minusDays(1));
+            project.setDeadlineStatus(DeadlineStatus.ON_TRACK);
+            ids.add(projectRepository.save(project).getId());
+        }
+
+        jobScheduler.runJob(deadlineStatusJob);
+
+        assertThat(projectRepository.findAllById(ids)).extracting(Project::getDeadlineStatus)
+                .containsOnly(DeadlineStatus.OVERDUE);
+        JobRun run = jobRunRepository.findTop20ByJobNameOrderByStartedAtDesc(deadlineStatusJob.getName()).get(0);
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(run.getItemsProcessed()).isGreaterThanOrEqualTo(5);
+        assertThat(jobLeaseRepository.findById(deadlineStatusJob.getName()).orElseThrow().getCheckpoint()).isNull();
+    }
+
+    @Test
+    void compactionCarriesOnFromTheLastSeqSeen() {
+        ReflectionTestUtils.setField(compactionJob, "chunkSize", 2);
+        changeRepository.deleteAll();
+        jobLeaseRepository.findById(compactionJob.getName()).ifPresent(jobLeaseRepository::delete);
+        recordChange(1, 101L);
+        recordChange(2, 102L);
+        recordChange(3, 101L);
+
+        jobScheduler.runJob(compactionJob);
+        assertThat(changeRepository.findAll()).extracting(ProjectChange::getSeq).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(jobLeaseRepository.findById(compactionJob.getName()).orElseThrow().getCheckpoint())
+                .isEqualTo("3");
+
+        // Only rows after seq 3 are read, and they still supersede the older rows of their project
+        recordChange(4, 102L);
+        assertThat(compactionJob.processChunk("3").getItemsProcessed()).isEqualTo(1);
+        assertThat(changeRepository.findAll()).extracting(ProjectChange::getSeq).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(compactionJob.processChunk("4").getNextCheckpoint()).isEqualTo("4");
+    }
+
+    private void recordChange(long seq, Long projectId) {
+        ProjectChange change = new ProjectChange();
+        change.setSeq(seq);
+        change.setProjectId(projectId);
+        change.setChangeType(ProjectChangeType.UPDATED);
+        change.setChangedAt(LocalDateTime.now());
+        changeRepository.save(change);
+    }
+
+    private void createLease(String jobName) {
+        JobLease lease = new JobLease();
+        lease.setJobName(jobName);
+        jobLeaseRepository.save(lease);
+    }
+
+    private JobRun lastRun(ScheduledJob job) {
+        return jobRunRepository.findTop20ByJobNameOrderByStartedAtDesc(job.getName()).get(0);
+    }
+
+    /**
+     * Counts through a fixed number of items; the checkpoint is the next index.
+     * Records the checkpoint each chunk started from.
+     */
+    private static class CountingJob implements ScheduledJob {
+        private final String name;
+        private final int items;
+        private final int chunkSize;
+        private final List<String> checkpoints = new ArrayList<>();
+        private IntPredicate failWhen;
+        private IntConsumer afterChunk = chunk -> { };
+        private int chunks;
+
+        CountingJob(String name, int items, int chunkSize, IntPredicate failWhen) {
+            this.name = name;
+            this.items = items;
+            this.chunkSize = chunkSize;
+            this.failWhen = failWhen;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getCron() {
+            return "0 0 0 1 1 *";
+        }
+
+        @Override
+        public ChunkResult processChunk(String checkpoint) {
+            checkpoints.add(checkpoint);
+            chunks++;
+            if (failWhen.test(chunks)) {
+                throw new IllegalStateException("chunk " + chunks + " failed");
+            }
+            int from = checkpoint == null ? 0 : Integer.parseInt(checkpoint);
+            int to = Math.min(from + chunkSize, items);
+            afterChunk.accept(chunks);
+            return to < items ? ChunkResult.more(String.valueOf(to), to - from) : ChunkResult.done(to - from);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.research.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.research.model.OutboxEmail;
+import com.example.research.model.OutboxEmailStatus;
+import com.example.research.repository.OutboxEmailRepository;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "mail.outbox.enabled=true",
+        "mail.outbox.poll-interval=PT1H",
+        // The health check needs a real JavaMailSenderImpl
+        "management.health.mail.enabled=false"
+})
+@ActiveProfiles("test")
+class EmailOutboxWorkerTest {
+
+    @Autowired
+    private EmailOutboxWorker worker;
+
+    @Autowired
+    private EmailOutboxService outboxService;
+
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    @MockBean
+    private JavaMailSender mailSender;
+
+    @BeforeEach
+    void waitForStartupPoll() throws InterruptedException {
+        awaitIdle();
+        outboxEmailRepository.deleteAll();
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    @Test
+    void claimTakesEachMessageOnceInOneStatement() {
+        List<Long> ids = enqueue(3);
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+
+        assertThat(outboxEmailRepository.claim(ids, "first", now, now.plusMinutes(5))).isEqualTo(3);
+        assertThat(outboxEmailRepository.claim(ids, "second", now, now.plusMinutes(5))).isZero();
+
+        List<OutboxEmail> claimed = outboxEmailRepository.findByClaimToken("first");
+        assertThat(claimed).extracting(OutboxEmail::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(claimed).allSatisfy(email -> {
+            assertThat(email.getStatus()).isEqualTo(OutboxEmailStatus.SENDING);
+            assertThat(email.getAttempts()).isEqualTo(1);
+        });
+        assertThat(outboxEmailRepository.findByClaimToken("second")).isEmpty();
+    }
+
+    @Test
+    void outcomeIsOnlyRecordedWhileTheClaimHolds() {
+        List<Long> ids = enqueue(1);
+        Long id = ids.get(0);
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        assertThat(outboxEmailRepository.claim(ids, "stale", now, now.plusSeconds(30))).isEqualTo(1);
+
+        // The first sender's claim runs out and another poll takes the message
+        LocalDateTime later = now.plusMinutes(1);
+        assertThat(outboxEmailRepository.claim(ids, "fresh", later, later.plusMinutes(5))).isEqualTo(1);
+
+        assertThat(outboxEmailRepository.markFailedAttempt(id, "stale", OutboxEmailStatus.PENDING,
+                later, "timed out")).isZero();
+        assertThat(outboxEmailRepository.markSent(id, "stale", later)).isZero();
+        OutboxEmail email = outboxEmailRepository.findById(id).orElseThrow();
+        assertThat(email.getStatus()).isEqualTo(OutboxEmailStatus.SENDING);
+        assertThat(email.getClaimToken()).isEqualTo("fresh");
+
+        assertThat(outboxEmailRepository.markSent(id, "fresh", later)).isEqualTo(1);
+        email = outboxEmailRepository.findById(id).orElseThrow();
+        assertThat(email.getStatus()).isEqualTo(OutboxEmailStatus.SENT);
+        assertThat(email.getClaimToken()).isNull();
+    }
+
+    @Test
+    void pollReturnsWhileSmtpIsSlow() throws Exception {
+        CountDownLatch smtpReleased = new CountDownLatch(1);
+        doAnswer(invocation -> smtpReleased.await(10, TimeUnit.SECONDS))
+                .when(mailSender).send(any(MimeMessage[].class));
+        List<Long> ids = enqueue(2);
+
+        long start = System.nanoTime();
+        worker.poll();
+        long pollMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(pollMillis).isLessThan(500);
+        assertThat(worker.isDraining()).isTrue();
+        // A trigger while a drain is still sending doesn't start a second one
+        worker.poll();
+
+        smtpReleased.countDown();
+        awaitIdle();
+        assertThat(outboxEmailRepository.findAllById(ids)).extracting(OutboxEmail::getStatus)
+                .containsOnly(OutboxEmailStatus.SENT);
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+    }
+
+    private List<Long> enqueue(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(outboxService.enqueue("user" + i + "@example.com", "Welcome",
+                    EmailOutboxService.TEMPLATE_WELCOME, Map.of("name", "User " + i)).getId());
+        }
+        return ids;
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (worker.isDraining() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(worker.isDraining()).isFalse();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.research.memstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.research.model.Project;
+import com.example.research.model.ProjectStatus;
+import com.example.research.model.User;
+
+/**
+ * Query by example against the in-memory repositories, on a store that
+ * never touches disk.
+ */
+class InMemoryRepositoryExampleTest {
+
+    private InMemoryProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        MemoryStoreProperties properties = new MemoryStoreProperties();
+        properties.setDurable(false);
+        MemoryStore store = new MemoryStore(properties);
+        store.putUser(MemoryStoreTest.user(1));
+        store.putUser(MemoryStoreTest.user(2));
+        projectRepository = new InMemoryProjectRepository();
+        ReflectionTestUtils.setField(projectRepository, "store", store);
+
+        save("Protein folding", ProjectStatus.IN_PROGRESS, 1L);
+        save("Protein synthesis", ProjectStatus.PENDING, 1L);
+        save("Galaxy survey", ProjectStatus.IN_PROGRESS, 2L);
+    }
+
+    @Test
+    void matchesEverySetField() {
+        Project probe = probe();
+        probe.setStatus(ProjectStatus.IN_PROGRESS);
+
+        assertThat(projectRepository.findAll(Example.of(probe), Sort.by("title")))
+                .extracting(Project::getTitle).containsExactly("Galaxy survey", "Protein folding");
+        assertThat(projectRepository.count(Example.of(probe))).isEqualTo(2);
+
+        probe.setOwner(owner(1L));
+        assertThat(projectRepository.findOne(Example.of(probe))).map(Project::getTitle).contains("Protein folding");
+    }
+
+    @Test
+    void honoursStringMatchingAndIgnoredPaths() {
+        Project probe = probe();
+        probe.setTitle("protein");
+        probe.setStatus(ProjectStatus.COMPLETED);
+        ExampleMatcher matcher = ExampleMatcher.matching()
+                .withIgnorePaths("status")
+                .withMatcher("title", match -> match.startsWith().ignoreCase());
+
+        assertThat(projectRepository.findAll(Example.of(probe, matcher)))
+                .extracting(Project::getTitle).containsExactly("Protein folding", "Protein synthesis");
+        assertThat(projectRepository.exists(Example.of(probe))).isFalse();
+    }
+
+    @Test
+    void matchAnyNeedsOnlyOneField() {
+        Project probe = probe();
+        probe.setTitle("Galaxy survey");
+        probe.setStatus(ProjectStatus.PENDING);
+
+        assertThat(projectRepository.findAll(Example.of(probe, ExampleMatcher.matchingAny())))
+                .extracting(Project::getTitle).containsExactlyInAnyOrder("Galaxy survey", "Protein synthesis");
+    }
+
+    @Test
+    void pagesAndFluentQueries() {
+        Project probe = probe();
+        probe.setOwner(owner(1L));
+        Example<Project> example = Example.of(probe);
+
+        Page<Project> page = projectRepository.findAll(example, PageRequest.of(0, 1, Sort.by("title").descending()));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(Project::getTitle).containsExactly("Protein synthesis");
+
+        List<TitleOnly> titles = projectRepository.findBy(example, query -> query.as(TitleOnly.class)
+                .sortBy(Sort.by("title")).limit(1).all());
+        assertThat(titles).extracting(TitleOnly::getTitle).containsExactly("Protein folding");
+        assertThat(projectRepository.<Project, Boolean>findBy(example, query -> query.exists())).isTrue();
+        assertThatThrownBy(() -> projectRepository.findOne(example))
+                .isInstanceOf(IncorrectResultSizeDataAccessException.class);
+    }
+
+    interface TitleOnly {
+        String getTitle();
+    }
+
+    private void save(String title, ProjectStatus status, Long ownerId) {
+        Project project = new Project();
+        project.setTitle(title);
+        project.setStatus(status);
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setOwner(owner(ownerId));
+        projectRepository.save(project);
+    }
+
+    // Reminder flags default to false on a new entity, which would otherwise be matched on
+    private static Project probe() {
+        Project probe = new Project();
+        probe.setReminderSent(null);
+        return probe;
+    }
+
+    private static User owner(Long id) {
+        User owner = new User();
+        owner.setId(id);
+        return owner;
+    }
+}
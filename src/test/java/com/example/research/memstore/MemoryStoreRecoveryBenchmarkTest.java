@@ -0,0 +1,106 @@
+package com.example.research.memstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.ProjectStatus;
+
+/**
+ * Startup recovery time of the memory store with a million projects, each
+ * with one status change, spread over 10,000 owners: a snapshot holding all
+ * of them plus a short log written after it. Logs the snapshot size and the
+ * time {@link MemoryStore#open()} takes, best and median of several rounds.
+ *
+ * Tagged "benchmark" so the default build skips it; run it with
+ * {@code mvn -Pbenchmark test}. Needs a heap of about 2 GB.
+ */
+@Tag("benchmark")
+class MemoryStoreRecoveryBenchmarkTest {
+    private static final Logger logger = LoggerFactory.getLogger(MemoryStoreRecoveryBenchmarkTest.class);
+
+    private static final int PROJECTS = 1_000_000;
+    private static final int OWNERS = 10_000;
+    private static final int WRITES_AFTER_SNAPSHOT = 10_000;
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversAMillionProjects() throws IOException {
+        MemoryStore store = new MemoryStore(properties());
+        store.open();
+        fill(store);
+        long snapshotStart = System.nanoTime();
+        store.snapshot();
+        long snapshotMillis = (System.nanoTime() - snapshotStart) / 1_000_000;
+        for (int i = 1; i <= WRITES_AFTER_SNAPSHOT; i++) {
+            store.putProject(project(i, ProjectStatus.COMPLETED), List.of());
+        }
+        long snapshotBytes = Files.size(directory.resolve("snapshot-1.bin"));
+        // Leave the log as a crash would; closing would fold it into a new snapshot
+        store = null;
+
+        long[] millis = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            System.gc();
+            MemoryStore recovered = new MemoryStore(properties());
+            long start = System.nanoTime();
+            recovered.open();
+            millis[round] = (System.nanoTime() - start) / 1_000_000;
+
+            assertThat(recovered.projectCount()).isEqualTo(PROJECTS);
+            assertThat(recovered.historyCount()).isEqualTo(PROJECTS);
+            assertThat(recovered.countProjectsByStatus(ProjectStatus.COMPLETED)).isGreaterThanOrEqualTo(WRITES_AFTER_SNAPSHOT);
+            assertThat(recovered.projectsByOwner(1)).hasSize(PROJECTS / OWNERS);
+        }
+        Arrays.sort(millis);
+        logger.info("{} projects: snapshot {} MB written in {} ms; recovery best {} ms, median {} ms "
+                + "({} processors, {} MB max heap)",
+                PROJECTS, snapshotBytes >> 20, snapshotMillis, millis[0], millis[ROUNDS / 2],
+                Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().maxMemory() >> 20);
+    }
+
+    private MemoryStoreProperties properties() {
+        MemoryStoreProperties properties = new MemoryStoreProperties();
+        properties.setDirectory(directory.toString());
+        return properties;
+    }
+
+    private static void fill(MemoryStore store) {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (long id = 1; id <= OWNERS; id++) {
+            store.putUser(new UserRow(id, "researcher" + id, "researcher" + id + "@university.edu", "secret",
+                    "Research", "User " + id, null, "Computer Science", "University Research Center",
+                    created, created));
+        }
+        ProjectStatus[] statuses = ProjectStatus.values();
+        for (long id = 1; id <= PROJECTS; id++) {
+            ProjectStatus status = statuses[(int) (id % statuses.length)];
+            store.putProject(project(id, status), List.of(new HistoryRow(id, id, ProjectStatus.PENDING,
+                    status, created.plusMinutes(id), (id - 1) % OWNERS + 1)));
+        }
+    }
+
+    private static ProjectRow project(long id, ProjectStatus status) {
+        LocalDate start = LocalDate.of(2024, 1, 1).plusDays(id % 365);
+        return new ProjectRow(id, "Research project " + id,
+                "Analysis of experimental results from phase " + id + ", covering data collection.",
+                status, start, start.plusMonths(6), (id - 1) % OWNERS + 1, start, start,
+                start.plusMonths(5), DeadlineStatus.ON_TRACK, false);
+    }
+}
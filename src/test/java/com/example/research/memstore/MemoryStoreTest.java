@@ -0,0 +1,176 @@
+package com.example.research.memstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.ProjectStatus;
+
+/**
+ * Durability of {@link MemoryStore}: what a fresh store recovers from the
+ * files another one left behind. Stores are reopened without closing the
+ * previous one, as after a crash, since closing takes a snapshot.
+ */
+class MemoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<MemoryStore> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeStores() throws IOException {
+        for (MemoryStore store : opened) {
+            store.close();
+        }
+    }
+
+    @Test
+    void replaysTheLogAfterACrash() throws IOException {
+        MemoryStore store = open();
+        store.putUser(user(1));
+        store.putProject(project(1, 1L, ProjectStatus.PENDING, LocalDate.of(2025, 3, 1)),
+                List.of(history(1, 1, null, ProjectStatus.PENDING)));
+        store.putProject(project(2, 1L, ProjectStatus.PENDING, null), List.of());
+        store.putProject(project(1, 1L, ProjectStatus.IN_PROGRESS, LocalDate.of(2025, 4, 1)),
+                List.of(history(2, 1, ProjectStatus.PENDING, ProjectStatus.IN_PROGRESS)));
+        store.deleteProject(2);
+
+        MemoryStore recovered = open();
+
+        assertThat(recovered.users()).extracting(UserRow::username).containsExactly("user1");
+        assertThat(recovered.projects()).extracting(ProjectRow::id).containsExactly(1L);
+        assertThat(recovered.project(1)).map(ProjectRow::status).contains(ProjectStatus.IN_PROGRESS);
+        assertThat(recovered.historyForProject(1)).extracting(HistoryRow::id).containsExactly(1L, 2L);
+        assertThat(recovered.projectsByStatus(ProjectStatus.PENDING)).isEmpty();
+        assertThat(recovered.projectsByOwner(1)).extracting(ProjectRow::id).containsExactly(1L);
+        assertThat(recovered.projectsByDeadline(LocalDate.of(2025, 3, 31))).isEmpty();
+        assertThat(recovered.nextProjectId()).isEqualTo(3L);
+    }
+
+    @Test
+    void savesAProjectAndItsHistoryAsOneLogEntry() throws IOException {
+        MemoryStore store = open();
+        store.putUser(user(1));
+        store.putProject(project(1, 1L, ProjectStatus.PENDING, null), List.of(
+                history(1, 1, null, ProjectStatus.PENDING),
+                history(2, 1, ProjectStatus.PENDING, ProjectStatus.IN_PROGRESS)));
+
+        List<Byte> ops = new ArrayList<>();
+        StoreLog.replay(directory.resolve("log-0.bin"), (kind, op, record) -> ops.add(op));
+
+        assertThat(ops).containsExactly(StoreLog.OP_PUT, StoreLog.OP_PUT_WITH_HISTORY);
+    }
+
+    @Test
+    void dropsATornLastEntryAndAppendsAfterTheRest() throws IOException {
+        MemoryStore store = open();
+        store.putUser(user(1));
+        store.putProject(project(1, 1L, ProjectStatus.PENDING, null), List.of());
+        Path log = directory.resolve("log-0.bin");
+        long intact = Files.size(log);
+        store.putProject(project(2, 1L, ProjectStatus.PENDING, null),
+                List.of(history(1, 2, null, ProjectStatus.PENDING)));
+        // Cut the last entry off halfway, as a crash mid-write would
+        truncate(log, intact + (Files.size(log) - intact) / 2);
+
+        MemoryStore recovered = open();
+        assertThat(recovered.projects()).extracting(ProjectRow::id).containsExactly(1L);
+        assertThat(recovered.history()).isEmpty();
+        assertThat(Files.size(log)).isEqualTo(intact);
+
+        recovered.putProject(project(3, 1L, ProjectStatus.COMPLETED, null), List.of());
+        assertThat(open().projects()).extracting(ProjectRow::id).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void stopsReplayAtACorruptEntry() throws IOException {
+        MemoryStore store = open();
+        store.putUser(user(1));
+        Path log = directory.resolve("log-0.bin");
+        long intact = Files.size(log);
+        store.putProject(project(1, 1L, ProjectStatus.PENDING, null), List.of());
+        store.putProject(project(2, 1L, ProjectStatus.PENDING, null), List.of());
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), intact + 12);
+        }
+
+        assertThat(open().projects()).isEmpty();
+    }
+
+    @Test
+    void recoversFromTheSnapshotPlusTheLogWrittenSince() throws IOException {
+        MemoryStore store = open();
+        store.putUser(user(1));
+        store.putUser(user(2));
+        store.putProject(project(1, 1L, ProjectStatus.PENDING, LocalDate.of(2025, 3, 1)),
+                List.of(history(1, 1, null, ProjectStatus.PENDING)));
+        store.putProject(project(2, 2L, ProjectStatus.PENDING, null), List.of());
+        assertThat(store.snapshot()).isTrue();
+        assertThat(store.snapshot()).isFalse(); // nothing new since
+
+        store.putProject(project(1, 1L, ProjectStatus.COMPLETED, LocalDate.of(2025, 3, 1)),
+                List.of(history(2, 1, ProjectStatus.PENDING, ProjectStatus.COMPLETED)));
+        store.deleteProject(2);
+        store.deleteUser(2);
+
+        assertThat(directory.resolve("snapshot-1.bin")).exists();
+        assertThat(directory.resolve("log-0.bin")).doesNotExist();
+
+        MemoryStore recovered = open();
+        assertThat(recovered.users()).extracting(UserRow::id).containsExactly(1L);
+        assertThat(recovered.userByUsername("user2")).isEmpty();
+        assertThat(recovered.projects()).extracting(ProjectRow::status).containsExactly(ProjectStatus.COMPLETED);
+        assertThat(recovered.countProjectsByStatus(ProjectStatus.COMPLETED)).isEqualTo(1);
+        assertThat(recovered.countProjectsByStatus(ProjectStatus.PENDING)).isZero();
+        assertThat(recovered.projectsByDeadline()).extracting(ProjectRow::id).containsExactly(1L);
+        assertThat(recovered.latestHistory(10)).extracting(HistoryRow::id).containsExactly(2L, 1L);
+        assertThat(recovered.nextHistoryId()).isEqualTo(3L);
+    }
+
+    private MemoryStore open() throws IOException {
+        MemoryStoreProperties properties = new MemoryStoreProperties();
+        properties.setDirectory(directory.toString());
+        MemoryStore store = new MemoryStore(properties);
+        store.open();
+        opened.add(store);
+        return store;
+    }
+
+    private static void truncate(Path file, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+    }
+
+    static UserRow user(long id) {
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0);
+        return new UserRow(id, "user" + id, "user" + id + "@example.com", "secret", "First", "Last",
+                null, "Physics", "University", created, created);
+    }
+
+    static ProjectRow project(long id, Long ownerId, ProjectStatus status, LocalDate deadline) {
+        LocalDate created = LocalDate.of(2025, 1, 2);
+        return new ProjectRow(id, "Project " + id, "Summary " + id, status, created, created.plusMonths(6),
+                ownerId, created, created, deadline,
+                deadline != null ? DeadlineStatus.ON_TRACK : DeadlineStatus.NO_DEADLINE, false);
+    }
+
+    static HistoryRow history(long id, long projectId, ProjectStatus from, ProjectStatus to) {
+        return new HistoryRow(id, projectId, from, to, LocalDateTime.of(2025, 1, 2, 10, 0).plusMinutes(id), 1L);
+    }
+}
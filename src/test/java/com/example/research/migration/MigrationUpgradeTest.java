@@ -0,0 +1,65 @@
+package com.example.research.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.example.research.model.Project;
+import com.example.research.util.CompressedText;
+
+/**
+ * A database built by the old schema.sql is baselined at version 1 and then
+ * gets every later table from the versioned migrations, keeping its rows.
+ */
+class MigrationUpgradeTest {
+
+    @Test
+    void upgradesDatabaseBuiltFromOldSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/legacy-schema.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password) VALUES (1, 'existing', 'existing@example.com', 'x')");
+        jdbcTemplate.update("INSERT INTO projects (id, title, description, status, owner_id) "
+                + "VALUES (1, 'Existing project', 'Kept through the upgrade', 'PENDING', 1)");
+        String longDescription = "A description long enough to be cut down to a summary \uD83D\uDD2C. ".repeat(20);
+        jdbcTemplate.update("INSERT INTO projects (id, title, description, status, owner_id) "
+                + "VALUES (2, 'Long project', ?, 'PENDING', 1)", longDescription);
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+        flyway.migrate();
+
+        assertThat(flyway.info().pending()).isEmpty();
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables WHERE table_schema = 'public'", String.class);
+        assertThat(tables).contains("job_leases", "job_runs", "email_outbox", "reviews", "review_counters",
+                "change_sequences", "project_changes", "project_descriptions", "id_sequences");
+        assertThat(jdbcTemplate.queryForList("SELECT column_name FROM information_schema.columns "
+                + "WHERE table_name = 'email_outbox'", String.class)).contains("claim_token");
+        assertThat(jdbcTemplate.queryForObject("SELECT summary FROM projects WHERE id = 1", String.class))
+                .isEqualTo("Kept through the upgrade");
+        // The migration keeps its own copy of the summary and deflate code; the application must read it back
+        assertThat(jdbcTemplate.queryForObject("SELECT summary FROM projects WHERE id = 2", String.class))
+                .isEqualTo(Project.summarize(longDescription));
+        String migrated = jdbcTemplate.queryForObject(
+                "SELECT content, original_length FROM project_descriptions WHERE project_id = 2",
+                (row, i) -> CompressedText.decompress(row.getBytes(1), row.getInt(2)));
+        assertThat(migrated).isEqualTo(longDescription);
+        // New ids continue after the rows that were already there
+        assertThat(jdbcTemplate.queryForObject("SELECT seq_value FROM id_sequences WHERE name = 'projects'",
+                Long.class)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class)).isEqualTo(1);
+    }
+}
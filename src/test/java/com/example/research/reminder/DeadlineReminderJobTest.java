@@ -0,0 +1,154 @@
+package com.example.research.reminder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.research.jobs.JobScheduler;
+import com.example.research.mail.EmailOutboxService;
+import com.example.research.model.DeadlineStatus;
+import com.example.research.model.JobRun;
+import com.example.research.model.JobRunStatus;
+import com.example.research.model.OutboxEmail;
+import com.example.research.model.Project;
+import com.example.research.model.ProjectStatus;
+import com.example.research.model.User;
+import com.example.research.repository.JobRunRepository;
+import com.example.research.repository.OutboxEmailRepository;
+import com.example.research.repository.ProjectRepository;
+import com.example.research.repository.UserRepository;
+import com.example.research.service.ProjectChangeService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class DeadlineReminderJobTest {
+
+    @Autowired
+    private JobScheduler jobScheduler;
+
+    @Autowired
+    private DeadlineReminderJob reminderJob;
+
+    @Autowired
+    private DeadlineReminderEngine reminderEngine;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Autowired
+    private ProjectChangeService changeService;
+
+    @SpyBean
+    private EmailOutboxService outboxService;
+
+    @AfterEach
+    void resetOutbox() {
+        reset(outboxService);
+    }
+
+    @Test
+    void projectWrittenThroughAnotherNodeIsRemindedAfterTheRefresh() {
+        // Saved straight to the database, so this node's engine never scheduled it
+        User owner = saveUser();
+        Project project = saveProject(owner, LocalDate.now().plusDays(3));
+        reminderEngine.unschedule(project.getId());
+        String token = changeService.snapshot().getToken();
+
+        jobScheduler.runJob(reminderJob);
+
+        assertThat(lastRun().getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(emailsTo(owner)).extracting(OutboxEmail::getSubject)
+                .containsExactly("Deadline approaching: " + project.getTitle());
+        Project reminded = projectRepository.findById(project.getId()).orElseThrow();
+        assertThat(reminded.getReminderSent()).isTrue();
+        assertThat(reminded.getDeadlineStatus()).isEqualTo(DeadlineStatus.APPROACHING);
+        assertThat(DeadlineReminderEngine.nextFireDate(reminded, LocalDate.now()))
+                .isEqualTo(project.getDeadline().plusDays(1));
+        // Clients syncing by delta see the new deadline status
+        assertThat(changeService.changesSince(token).getProjects()).extracting(Project::getId)
+                .contains(project.getId());
+    }
+
+    @Test
+    void reminderThatCannotBeQueuedStaysDue() {
+        User reminded = saveUser();
+        User failing = saveUser();
+        Project remindedProject = saveProject(reminded, LocalDate.now().minusDays(1));
+        Project failingProject = saveProject(failing, LocalDate.now().minusDays(1));
+        doThrow(new IllegalStateException("outbox unavailable")).when(outboxService)
+                .enqueue(eq(failing.getEmail()), anyString(), anyString(), anyMap());
+
+        jobScheduler.runJob(reminderJob);
+
+        assertThat(lastRun().getStatus()).isEqualTo(JobRunStatus.FAILED);
+        assertThat(projectRepository.findById(remindedProject.getId()).orElseThrow().getReminderSent()).isTrue();
+        assertThat(emailsTo(reminded)).hasSize(1);
+        assertThat(projectRepository.findById(failingProject.getId()).orElseThrow().getReminderSent()).isFalse();
+        assertThat(emailsTo(failing)).isEmpty();
+
+        reset(outboxService);
+        jobScheduler.runJob(reminderJob);
+
+        assertThat(lastRun().getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        Project retried = projectRepository.findById(failingProject.getId()).orElseThrow();
+        assertThat(retried.getReminderSent()).isTrue();
+        assertThat(retried.getDeadlineStatus()).isEqualTo(DeadlineStatus.OVERDUE);
+        assertThat(emailsTo(failing)).extracting(OutboxEmail::getSubject)
+                .containsExactly("Deadline passed: " + failingProject.getTitle());
+        assertThat(emailsTo(reminded)).hasSize(1);
+    }
+
+    private User saveUser() {
+        String name = "reminder-" + UUID.randomUUID();
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("secret");
+        user.setFirstName("Reminded");
+        return userRepository.save(user);
+    }
+
+    private Project saveProject(User owner, LocalDate deadline) {
+        Project project = new Project();
+        project.setTitle("Reminder " + owner.getUsername());
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setOwner(owner);
+        project.setDeadline(deadline);
+        project.setDeadlineStatus(DeadlineStatus.ON_TRACK);
+        project.setReminderSent(false);
+        return projectRepository.save(project);
+    }
+
+    private List<OutboxEmail> emailsTo(User user) {
+        return outboxEmailRepository.findAll().stream()
+                .filter(email -> email.getRecipient().equals(user.getEmail()))
+                .toList();
+    }
+
+    private JobRun lastRun() {
+        return jobRunRepository.findTop20ByJobNameOrderByStartedAtDesc(reminderJob.getName()).get(0);
+    }
+}
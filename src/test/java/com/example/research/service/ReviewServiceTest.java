@@ -0,0 +1,119 @@
+package com.example.research.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.research.model.Project;
+import com.example.research.model.ProjectStatus;
+import com.example.research.model.Review;
+import com.example.research.model.ReviewStatus;
+import com.example.research.model.User;
+import com.example.research.repository.ProjectRepository;
+import com.example.research.repository.ReviewRepository;
+import com.example.research.repository.UserRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ReviewServiceTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    void countersFollowCreateStatusChangeAndDelete() {
+        User reviewer = saveUser();
+        Project project = saveProject();
+        long pendingTotal = reviewService.countAll(ReviewStatus.PENDING);
+        long completedTotal = reviewService.countAll(ReviewStatus.COMPLETED);
+
+        Review first = reviewService.create(project, reviewer);
+        Review second = reviewService.create(project, reviewer);
+        assertThat(reviewService.countFor(reviewer.getId(), ReviewStatus.PENDING)).isEqualTo(2);
+        assertThat(reviewService.countAll(ReviewStatus.PENDING)).isEqualTo(pendingTotal + 2);
+
+        reviewService.update(first.getId(), 4, "Solid", ReviewStatus.COMPLETED);
+        assertThat(reviewService.countFor(reviewer.getId(), ReviewStatus.PENDING)).isEqualTo(1);
+        assertThat(reviewService.countFor(reviewer.getId(), ReviewStatus.COMPLETED)).isEqualTo(1);
+        assertThat(reviewService.countAll(ReviewStatus.COMPLETED)).isEqualTo(completedTotal + 1);
+
+        // Same status again is not a change
+        reviewService.update(first.getId(), null, null, ReviewStatus.COMPLETED);
+        assertThat(reviewService.countFor(reviewer.getId(), ReviewStatus.COMPLETED)).isEqualTo(1);
+
+        assertThat(reviewService.delete(second.getId())).isTrue();
+        reviewService.deleteByProject(project.getId());
+        assertThat(reviewService.countFor(reviewer.getId(), ReviewStatus.PENDING)).isZero();
+        assertThat(reviewService.countFor(reviewer.getId(), ReviewStatus.COMPLETED)).isZero();
+        assertThat(reviewService.countAll(ReviewStatus.PENDING)).isEqualTo(pendingTotal);
+        assertThat(reviewService.countAll(ReviewStatus.COMPLETED)).isEqualTo(completedTotal);
+    }
+
+    @Test
+    void updateKeepsFieldsTheClientLeftOut() {
+        Review review = reviewService.create(saveProject(), saveUser());
+        reviewService.update(review.getId(), 5, "Thorough methodology", null);
+
+        Review updated = reviewService.update(review.getId(), null, null, ReviewStatus.IN_PROGRESS).orElseThrow();
+
+        assertThat(updated.getRating()).isEqualTo(5);
+        assertThat(updated.getComments()).isEqualTo("Thorough methodology");
+        assertThat(updated.getStatus()).isEqualTo(ReviewStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void reviewerSlicesPageWithoutACount() {
+        User reviewer = saveUser();
+        Project project = saveProject();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(reviewService.create(project, reviewer).getId());
+        }
+        Sort newestFirst = Sort.by(Sort.Direction.DESC, "id");
+
+        Slice<Review> first = reviewRepository.findByReviewerId(reviewer.getId(), PageRequest.of(0, 2, newestFirst));
+        Slice<Review> last = reviewRepository.findByReviewerId(reviewer.getId(), PageRequest.of(2, 2, newestFirst));
+
+        assertThat(first.getContent()).extracting(Review::getId).containsExactly(ids.get(4), ids.get(3));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(Review::getId).containsExactly(ids.get(0));
+        assertThat(last.hasNext()).isFalse();
+        // The reviewer comes with the slice, for the DTO's username
+        assertThat(first.getContent().get(0).getReviewer().getUsername()).isEqualTo(reviewer.getUsername());
+    }
+
+    private User saveUser() {
+        String name = "reviewer-" + UUID.randomUUID();
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("secret");
+        return userRepository.save(user);
+    }
+
+    private Project saveProject() {
+        Project project = new Project();
+        project.setTitle("Reviewed project");
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        return projectRepository.save(project);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.research.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.research.dto.ProjectChangesDTO;
+import com.example.research.model.Project;
+import com.example.research.model.ProjectStatus;
+import com.example.research.model.User;
+import com.example.research.repository.ProjectRepository;
+import com.example.research.service.ProjectChangeService;
+import com.example.research.service.ProjectDescriptionService;
+
+/**
+ * Boots the three-shard H2 profile and checks where rows end up.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app.sample-data.enabled=false",
+        "jobs.enabled=false",
+        "mail.outbox.enabled=false"
+})
+@ActiveProfiles("sharding-local")
+class ShardedProjectStoreTest {
+
+    @Autowired
+    private ShardedProjectStore projectStore;
+
+    @Autowired
+    private ShardTemplate shardTemplate;
+
+    @Autowired
+    private ReshardingService reshardingService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectDescriptionService descriptionService;
+
+    @Autowired
+    private ProjectChangeService changeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writesLandOnTheOwnersShard() {
+        assertThat(shardTemplate.getShardCount()).isEqualTo(3);
+        for (int shard = 0; shard < 3; shard++) {
+            User owner = ownerOnShard(shard);
+            Project saved = projectStore.save(newProject(owner, "Routed to " + shard));
+
+            assertThat(shardTemplate.shardForId(saved.getId())).isEqualTo(shard);
+            assertThat(shardsHolding("projects", "id", saved.getId())).containsExactly(shard);
+            assertThat(shardsHolding("status_history", "project_id", saved.getId())).containsExactly(shard);
+            assertThat(shardsHolding("project_descriptions", "project_id", saved.getId())).containsExactly(shard);
+        }
+    }
+
+    @Test
+    void scatterReadsMergeEveryShard() {
+        List<Long> ids = new ArrayList<>();
+        for (int shard = 0; shard < 3; shard++) {
+            ids.add(projectStore.save(newProject(ownerOnShard(shard), "Scatter " + shard)).getId());
+        }
+
+        assertThat(projectStore.findAll()).extracting(Project::getId).containsAll(ids);
+        assertThat(projectStore.findAllById(ids)).extracting(Project::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(projectStore.findByStatus(ProjectStatus.IN_PROGRESS)).extracting(Project::getId).containsAll(ids);
+        assertThat(projectStore.countByStatus(ProjectStatus.IN_PROGRESS)).isGreaterThanOrEqualTo(3);
+        for (Long id : ids) {
+            assertThat(projectStore.findById(id)).map(Project::getId).contains(id);
+        }
+    }
+
+    @Test
+    void changesAreLoggedOnTheProjectsShard() {
+        String token = changeService.snapshot().getToken();
+        assertThat(token.split("\\.")).hasSize(3);
+
+        List<Long> ids = new ArrayList<>();
+        for (int shard = 0; shard < 3; shard++) {
+            Project saved = projectStore.save(newProject(ownerOnShard(shard), "Logged on " + shard),
+                    project -> changeService.recordUpdate(project.getId()));
+            assertThat(shardsHolding("project_changes", "project_id", saved.getId())).containsExactly(shard);
+            ids.add(saved.getId());
+        }
+
+        ProjectChangesDTO delta = changeService.changesSince(token);
+        assertThat(delta.getProjects()).extracting(Project::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(changeService.changesSince(delta.getToken()).getProjects()).isEmpty();
+    }
+
+    @Test
+    void reshardingMovesAnOwnersRowsHome() {
+        User owner = ownerOnShard(1);
+        int wrongShard = 2;
+        Project misplaced = shardTemplate.onShard(wrongShard, () -> projectRepository.save(newProject(owner, "Misplaced")));
+        Long id = misplaced.getId();
+        shardTemplate.onShard(wrongShard, () -> descriptionService.store(id, "Stored on the wrong shard"));
+        assertThat(shardsHolding("projects", "id", id)).containsExactly(wrongShard);
+
+        assertThat(reshardingService.moveOwner(owner.getId())).isEqualTo(1);
+
+        assertThat(shardsHolding("projects", "id", id)).containsExactly(1);
+        assertThat(shardsHolding("status_history", "project_id", id)).containsExactly(1);
+        assertThat(shardsHolding("project_descriptions", "project_id", id)).containsExactly(1);
+        // The id still points at the shard that allocated it, so this takes the fallback path
+        assertThat(projectStore.findWithDescription(id)).map(Project::getDescription)
+                .contains("Stored on the wrong shard");
+        assertThat(projectStore.findByOwner(owner)).extracting(Project::getId).containsExactly(id);
+
+        // The copied ids must not pull the target shard's ids into the source shard's block
+        Project added = projectStore.save(newProject(owner, "Saved after the move"));
+        assertThat(shardTemplate.shardForId(added.getId())).isEqualTo(1);
+        assertThat(shardsHolding("projects", "id", added.getId())).containsExactly(1);
+        Long historyId = added.getStatusHistory().get(0).getId();
+        assertThat(shardTemplate.shardForId(historyId)).isEqualTo(1);
+        assertThat(shardsHolding("status_history", "id", historyId)).containsExactly(1);
+        Project onSource = shardTemplate.onShard(wrongShard,
+                () -> projectRepository.save(newProject(ownerOnShard(wrongShard), "Saved on the source")));
+        assertThat(onSource.getId()).isNotEqualTo(added.getId());
+        assertThat(shardsHolding("projects", "id", onSource.getId())).containsExactly(wrongShard);
+    }
+
+    private User ownerOnShard(int shard) {
+        while (true) {
+            User user = new User();
+            String name = "owner-" + UUID.randomUUID();
+            user.setUsername(name);
+            user.setEmail(name + "@example.com");
+            user.setPassword("secret");
+            User saved = projectStore.saveUser(user);
+            if (shardTemplate.shardForOwner(saved.getId()) == shard) {
+                return saved;
+            }
+        }
+    }
+
+    private static Project newProject(User owner, String title) {
+        Project project = new Project();
+        project.setTitle(title);
+        project.setDescription(title + " description");
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setOwner(owner);
+        project.addStatusHistory(ProjectStatus.PENDING, ProjectStatus.IN_PROGRESS, owner);
+        return project;
+    }
+
+    private List<Integer> shardsHolding(String table, String keyColumn, Long key) {
+        List<Integer> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardTemplate.getShardCount(); shard++) {
+            Integer count = shardTemplate.onShard(shard, () -> jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + table + " WHERE " + keyColumn + " = ?", Integer.class, key));
+            if (count != null && count > 0) {
+                shards.add(shard);
+            }
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.research.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class ShardingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(ShardingConfig.class)
+            .withPropertyValues(
+                    "app.sharding.enabled=true",
+                    "app.sharding.shards[0].url=jdbc:h2:mem:sharding-config;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                    "app.sharding.shards[0].username=sa");
+
+    @Test
+    void refusesToStartWithOpenInView() {
+        contextRunner.withPropertyValues("spring.jpa.open-in-view=true")
+                .run(context -> assertThat(context).getFailure()
+                        .hasRootCauseMessage("app.sharding.enabled requires spring.jpa.open-in-view=false"));
+    }
+
+    @Test
+    void refusesToStartWhenOpenInViewIsLeftAtItsDefault() {
+        contextRunner.run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void startsWithOpenInViewOff() {
+        contextRunner.withPropertyValues("spring.jpa.open-in-view=false")
+                .run(context -> assertThat(context).hasNotFailed().hasSingleBean(DataSource.class));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.research.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    @Test
+    void startsFullAndRefusesPastCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 0.001);
+
+        assertThat(bucket.tryAcquire(6)).isTrue();
+        assertThat(bucket.tryAcquire(4)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    void refillsOverTimeButNeverBeyondCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(5, 100);
+        assertThat(bucket.tryAcquire(5)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+
+        Thread.sleep(200);
+
+        assertThat(bucket.tryAcquire(5)).isTrue();
+        assertThat(bucket.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    void reportsHowLongUntilTokensAreAvailable() {
+        TokenBucket bucket = new TokenBucket(10, 2);
+        assertThat(bucket.nanosUntil(10)).isZero();
+        assertThat(bucket.tryAcquire(10)).isTrue();
+
+        long wait = bucket.nanosUntil(4);
+        assertThat(wait).isBetween(TimeUnit.MILLISECONDS.toNanos(1900), TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void acquireWaitsForTheRefill() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 20);
+        bucket.acquire(1);
+
+        long start = System.nanoTime();
+        bucket.acquire(1);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(40);
+    }
+}
@@ -1,3 +1,4 @@
+-- schema.sql as it stood before Flyway, for MigrationUpgradeTest
 -- Drop tables in correct order
 DROP TABLE IF EXISTS status_history;
 DROP TABLE IF EXISTS projects;
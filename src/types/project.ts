@@ -24,7 +24,10 @@ export interface User {
 export interface Project {
   id: number;
   title: string;
-  description: string;
+  // Full text, only present once the project has been fetched by id
+  description?: string;
+  // Short prefix of the description, present in listings
+  summary?: string;
   status: ProjectStatus;
   startDate: string;
   endDate: string;